@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.benchmarks;
+
+import com.github.marlonlom.colombianholidayscalculator.util.EpochDays;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the Easter Sunday computations of {@link EpochDays}, the
+ * arithmetic {@link EpochDays#easterSunday(int)} against the table based
+ * {@link EpochDays#gaussEasterSunday(int)}, over every year both support.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EasterBenchmark {
+
+  /**
+   * First year of the sweep.
+   */
+  private static final int FIRST_YEAR = 1583;
+
+  /**
+   * Last year of the sweep.
+   */
+  private static final int LAST_YEAR = 2299;
+
+  /**
+   * Computes Easter Sunday of every year with the anonymous Gregorian
+   * algorithm.
+   *
+   * @return the sum of the epoch days.
+   */
+  @Benchmark
+  public long anonymousGregorian() {
+    long sum = 0L;
+    for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+      sum += EpochDays.easterSunday(year);
+    }
+    return sum;
+  }
+
+  /**
+   * Computes Easter Sunday of every year with the Gauss algorithm.
+   *
+   * @return the sum of the epoch days.
+   */
+  @Benchmark
+  public long gauss() {
+    long sum = 0L;
+    for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+      sum += EpochDays.gaussEasterSunday(year);
+    }
+    return sum;
+  }
+}
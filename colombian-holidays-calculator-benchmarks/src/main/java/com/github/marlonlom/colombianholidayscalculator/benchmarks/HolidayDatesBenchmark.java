@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.benchmarks;
+
+import com.github.marlonlom.colombianholidayscalculator.domain.HolidayDateComparator;
+import com.github.marlonlom.colombianholidayscalculator.domain.HolidayDates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the {@link HolidayDates} lookup and the
+ * {@link HolidayDateComparator} used by string keyed responses.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HolidayDatesBenchmark {
+
+  /**
+   * The comparator under test.
+   */
+  private HolidayDateComparator comparator;
+
+  /**
+   * The position looked up by the single lookup benchmark.
+   */
+  private int position;
+
+  /**
+   * Prepares the comparator.
+   */
+  @Setup
+  public void setUp() {
+    comparator = new HolidayDateComparator("dd/MM/yyyy");
+    position = HolidayDates.HD07.ordinal();
+  }
+
+  /**
+   * Comparison of two formatted holiday dates.
+   *
+   * @return the comparison result.
+   */
+  @Benchmark
+  public int compare() {
+    return comparator.compare("31/03/2024", "13/05/2024");
+  }
+
+  /**
+   * Single lookup by ordinal position.
+   *
+   * @return the found holiday date.
+   */
+  @Benchmark
+  public Optional<HolidayDates> indexOf() {
+    return HolidayDates.indexOf(position);
+  }
+
+  /**
+   * Lookup of every ordinal position, as done once per calculated year.
+   *
+   * @param blackhole the sink for the found holiday dates.
+   */
+  @Benchmark
+  public void indexOfAll(Blackhole blackhole) {
+    for (int pos = 0; pos < HolidayDates.count(); pos++) {
+      blackhole.consume(HolidayDates.indexOf(pos));
+    }
+  }
+
+  /**
+   * Single lookup by identifier.
+   *
+   * @return the found holiday date.
+   */
+  @Benchmark
+  public Optional<HolidayDates> findById() {
+    return HolidayDates.findById("HD07");
+  }
+
+  /**
+   * Easter Sunday alone, outside the static holiday table window.
+   *
+   * @return the Easter epoch day.
+   */
+  @Benchmark
+  public int getEpochDay() {
+    return HolidayDates.HD07.getEpochDay(2200);
+  }
+}
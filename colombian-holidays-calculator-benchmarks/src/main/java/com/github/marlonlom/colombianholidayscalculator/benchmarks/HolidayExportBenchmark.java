@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.benchmarks;
+
+import com.github.marlonlom.colombianholidayscalculator.HolidaysCalculator;
+import com.github.marlonlom.colombianholidayscalculator.export.HolidayExportFormat;
+import com.github.marlonlom.colombianholidayscalculator.export.HolidayExporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link HolidayExporter}, exporting a thousand years of
+ * holidays to a channel that discards its input. Run with {@code -prof gc} to
+ * check that the allocation per export does not grow with the output.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HolidayExportBenchmark {
+
+  /**
+   * The exported format.
+   */
+  @Param({"CSV", "ICALENDAR", "JSON_LINES"})
+  private HolidayExportFormat format;
+
+  /**
+   * Calculator providing the holiday stream.
+   */
+  private HolidaysCalculator calculator;
+
+  /**
+   * The exporter of the benchmarked format.
+   */
+  private HolidayExporter exporter;
+
+  /**
+   * Channel discarding everything written to it.
+   */
+  private final WritableByteChannel discardingChannel = new WritableByteChannel() {
+    @Override
+    public int write(ByteBuffer src) {
+      final int remaining = src.remaining();
+      src.position(src.limit());
+      return remaining;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    @Override
+    public void close() {
+      // Nothing to release.
+    }
+  };
+
+  /**
+   * Prepares the calculator and the exporter.
+   */
+  @Setup
+  public void setUp() {
+    calculator = new HolidaysCalculator(0);
+    exporter = HolidayExporter.of(format, Locale.ENGLISH);
+  }
+
+  /**
+   * Exports the holidays from 1600 to 2599.
+   *
+   * @return the number of exported holidays.
+   * @throws IOException never, as the channel discards its input.
+   */
+  @Benchmark
+  public long exportThousandYears() throws IOException {
+    return exporter.export(calculator.streamHolidays(LocalDate.of(1600, 1, 1), LocalDate.of(2599, 12, 31)).iterator(),
+      discardingChannel);
+  }
+}
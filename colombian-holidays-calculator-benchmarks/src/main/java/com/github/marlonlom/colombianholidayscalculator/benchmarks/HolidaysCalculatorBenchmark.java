@@ -0,0 +1,244 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.benchmarks;
+
+import com.github.marlonlom.colombianholidayscalculator.HolidaysCalculator;
+import com.github.marlonlom.colombianholidayscalculator.HolidaysCalculatorResponse;
+import com.github.marlonlom.colombianholidayscalculator.domain.HolidayYear;
+import com.github.marlonlom.colombianholidayscalculator.util.LocalDateUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link HolidaysCalculator#getHolidays(Integer)}, for single
+ * years, year sweeps and concurrent callers.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HolidaysCalculatorBenchmark {
+
+  /**
+   * First year of the sweep benchmarks.
+   */
+  private static final int SWEEP_FIRST_YEAR = 1900;
+
+  /**
+   * Last year of the sweep benchmarks.
+   */
+  private static final int SWEEP_LAST_YEAR = 2099;
+
+  /**
+   * The year used by the single year benchmarks.
+   */
+  @Param({"2024"})
+  private int year;
+
+  /**
+   * Calculator with the default per-year cache.
+   */
+  private HolidaysCalculator cachedCalculator;
+
+  /**
+   * Calculator with the per-year response cache disabled.
+   */
+  private HolidaysCalculator uncachedCalculator;
+
+  /**
+   * Utility used for the cold year computations.
+   */
+  private LocalDateUtil localDateUtil;
+
+  /**
+   * Last day of the benchmarked year, for the navigation benchmarks.
+   */
+  private LocalDate lastDayOfYear;
+
+  /**
+   * Prepares the calculators.
+   */
+  @Setup
+  public void setUp() {
+    cachedCalculator = new HolidaysCalculator();
+    uncachedCalculator = new HolidaysCalculator(0);
+    localDateUtil = new LocalDateUtil();
+    lastDayOfYear = LocalDate.of(year, 12, 31);
+  }
+
+  /**
+   * Single year, served from the response cache.
+   *
+   * @return the response.
+   */
+  @Benchmark
+  public HolidaysCalculatorResponse getHolidaysCached() {
+    return cachedCalculator.getHolidays(year);
+  }
+
+  /**
+   * Single year, building a new response and its string map on every call.
+   *
+   * @return the holidays map size.
+   */
+  @Benchmark
+  public int getHolidaysUncached() {
+    return uncachedCalculator.getHolidays(year).getHolidays().size();
+  }
+
+  /**
+   * Calculator construction. The configuration snapshot is shared by the
+   * process, so no configuration file is read or parsed per instance.
+   *
+   * @return the new calculator.
+   */
+  @Benchmark
+  public HolidaysCalculator newCalculator() {
+    return new HolidaysCalculator();
+  }
+
+  /**
+   * Single year, named in English from the interned per-locale names.
+   *
+   * @return the typed view size.
+   */
+  @Benchmark
+  public int getHolidaysLocalized() {
+    return uncachedCalculator.getHolidays(year, Locale.ENGLISH).size();
+  }
+
+  /**
+   * Single year, computed from the holiday rules on every call.
+   *
+   * @return the computed year.
+   */
+  @Benchmark
+  public HolidayYear computeHolidayYear() {
+    return HolidayYear.compute(localDateUtil, year);
+  }
+
+  /**
+   * Sweep over two centuries, building a new response for each year.
+   *
+   * @param blackhole the sink for the responses.
+   */
+  @Benchmark
+  public void getHolidaysYearSweep(Blackhole blackhole) {
+    for (int sweepYear = SWEEP_FIRST_YEAR; sweepYear <= SWEEP_LAST_YEAR; sweepYear++) {
+      blackhole.consume(uncachedCalculator.getHolidays(sweepYear).getHolidays());
+    }
+  }
+
+  /**
+   * The same two centuries as the sweep, as a single range response.
+   *
+   * @return the range response.
+   */
+  @Benchmark
+  public HolidaysCalculatorResponse getHolidaysRange() {
+    return uncachedCalculator.getHolidays(SWEEP_FIRST_YEAR, SWEEP_LAST_YEAR);
+  }
+
+  /**
+   * The same two centuries as the sweep, as a single range response computed
+   * on the common fork-join pool.
+   *
+   * @return the range response.
+   */
+  @Benchmark
+  public HolidaysCalculatorResponse getHolidaysRangeParallel() {
+    return uncachedCalculator.getHolidays(SWEEP_FIRST_YEAR, SWEEP_LAST_YEAR, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Single year, from as many concurrent callers as available processors,
+   * sharing one cached calculator.
+   *
+   * @return the response.
+   */
+  @Benchmark
+  @Threads(Threads.MAX)
+  public HolidaysCalculatorResponse getHolidaysConcurrent() {
+    return cachedCalculator.getHolidays(year);
+  }
+
+  /**
+   * Single year, from as many concurrent callers as available processors,
+   * sharing one calculator without response cache.
+   *
+   * @return the holidays map size.
+   */
+  @Benchmark
+  @Threads(Threads.MAX)
+  public int getHolidaysConcurrentUncached() {
+    return uncachedCalculator.getHolidays(year).getHolidays().size();
+  }
+
+  /**
+   * Next holiday after the last day of the year, crossing into the next one.
+   *
+   * @return the next holiday.
+   */
+  @Benchmark
+  public LocalDate nextHoliday() {
+    return cachedCalculator.nextHoliday(lastDayOfYear);
+  }
+
+  /**
+   * Holidays of the last quarter of the year and the first one of the next.
+   *
+   * @return the range response.
+   */
+  @Benchmark
+  public HolidaysCalculatorResponse holidaysBetween() {
+    return cachedCalculator.holidaysBetween(lastDayOfYear.minusMonths(3), lastDayOfYear.plusMonths(3));
+  }
+
+  /**
+   * The same two centuries as the sweep, as a lazy stream.
+   *
+   * @return the number of holidays.
+   */
+  @Benchmark
+  public long streamHolidays() {
+    return uncachedCalculator.streamHolidays(LocalDate.of(SWEEP_FIRST_YEAR, 1, 1),
+      LocalDate.of(SWEEP_LAST_YEAR, 12, 31)).filter(holiday -> holiday.getDate().getDayOfWeek() == DayOfWeek.MONDAY)
+      .count();
+  }
+
+  /**
+   * The same two centuries as the sweep, as a lazy parallel stream.
+   *
+   * @return the number of holidays.
+   */
+  @Benchmark
+  public long streamHolidaysParallel() {
+    return uncachedCalculator.streamHolidays(LocalDate.of(SWEEP_FIRST_YEAR, 1, 1),
+      LocalDate.of(SWEEP_LAST_YEAR, 12, 31)).parallel()
+      .filter(holiday -> holiday.getDate().getDayOfWeek() == DayOfWeek.MONDAY).count();
+  }
+}
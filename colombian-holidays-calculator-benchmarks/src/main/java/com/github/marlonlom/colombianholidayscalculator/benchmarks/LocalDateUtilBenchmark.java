@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.benchmarks;
+
+import com.github.marlonlom.colombianholidayscalculator.util.LocalDateUtil;
+import org.joda.time.DateTimeConstants;
+import org.joda.time.LocalDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the {@link LocalDateUtil} date computations.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LocalDateUtilBenchmark {
+
+  /**
+   * The year used by the benchmarks.
+   */
+  @Param({"2024"})
+  private int year;
+
+  /**
+   * The utility under test.
+   */
+  private LocalDateUtil localDateUtil;
+
+  /**
+   * A starting date for the nearest day of week benchmarks.
+   */
+  private LocalDate startingDate;
+
+  /**
+   * Prepares the utility and the starting date.
+   */
+  @Setup
+  public void setUp() {
+    localDateUtil = new LocalDateUtil();
+    startingDate = new LocalDate(year, 3, 19);
+  }
+
+  /**
+   * Easter Sunday of the year.
+   *
+   * @return the Easter date.
+   */
+  @Benchmark
+  public LocalDate calculateEasterDay() {
+    return localDateUtil.calculateEasterDay(year);
+  }
+
+  /**
+   * Easter Sunday of the year, as an epoch day.
+   *
+   * @return the Easter epoch day.
+   */
+  @Benchmark
+  public int calculateEasterEpochDay() {
+    return localDateUtil.calculateEasterEpochDay(year);
+  }
+
+  /**
+   * Nearest Monday from year, month and day.
+   *
+   * @return the nearest Monday.
+   */
+  @Benchmark
+  public LocalDate getNearestDayOfWeekFromFields() {
+    return localDateUtil.getNearestDayOfWeek(year, 3, 19, DateTimeConstants.MONDAY);
+  }
+
+  /**
+   * Nearest Monday from a date.
+   *
+   * @return the nearest Monday.
+   */
+  @Benchmark
+  public LocalDate getNearestDayOfWeekFromDate() {
+    return localDateUtil.getNearestDayOfWeek(startingDate, DateTimeConstants.MONDAY);
+  }
+
+  /**
+   * Nearest Monday from year, month and day, as an epoch day.
+   *
+   * @return the nearest Monday epoch day.
+   */
+  @Benchmark
+  public int getNearestDayOfWeekEpochDay() {
+    return localDateUtil.getNearestDayOfWeekEpochDay(year, 3, 19, DateTimeConstants.MONDAY);
+  }
+}
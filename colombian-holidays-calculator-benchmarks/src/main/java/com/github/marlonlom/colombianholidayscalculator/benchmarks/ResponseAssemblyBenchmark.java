@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.benchmarks;
+
+import com.github.marlonlom.colombianholidayscalculator.HolidaysCalculator;
+import com.github.marlonlom.colombianholidayscalculator.config.ConfigProperties;
+import com.github.marlonlom.colombianholidayscalculator.domain.HolidayDateComparator;
+import com.github.marlonlom.colombianholidayscalculator.domain.HolidayDates;
+import com.github.marlonlom.colombianholidayscalculator.util.LocalDateUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.SimpleDateFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Allocation benchmarks for the assembly of the holidays map of a year,
+ * comparing the former {@code "%s;%s"} format and split pipeline with the
+ * direct population of the map from the typed response. Run with
+ * {@code -prof gc} to compare the allocation rates.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseAssemblyBenchmark {
+
+  /**
+   * The year used by the benchmarks.
+   */
+  @Param({"2024"})
+  private int year;
+
+  /**
+   * Calculator with the per-year response cache disabled.
+   */
+  private HolidaysCalculator uncachedCalculator;
+
+  /**
+   * Utility used by the former pipeline.
+   */
+  private LocalDateUtil localDateUtil;
+
+  /**
+   * The configured holiday names.
+   */
+  private List<String> holidayDetails;
+
+  /**
+   * The configured date pattern.
+   */
+  private String datePattern;
+
+  /**
+   * Prepares the calculator and the configuration used by the former pipeline.
+   */
+  @Setup
+  @SuppressWarnings("deprecation")
+  public void setUp() {
+    final ConfigProperties configProperties = new ConfigProperties();
+    uncachedCalculator = new HolidaysCalculator(0);
+    localDateUtil = new LocalDateUtil();
+    holidayDetails = configProperties.getHolidayDetails();
+    datePattern = configProperties.getHolidayDateFormat().toPattern();
+  }
+
+  /**
+   * The former pipeline: each holiday formatted as {@code "date;name"},
+   * collected into a list, then split again into a sorted map.
+   *
+   * @return the holidays map.
+   */
+  @Benchmark
+  public Map<String, String> formatAndSplit() {
+    final SimpleDateFormat dateFormat = new SimpleDateFormat(datePattern);
+    final Map<String, String> holidays = new TreeMap<>(new HolidayDateComparator(datePattern));
+    IntStream.range(0, holidayDetails.size())
+      .mapToObj(pos -> String.format("%s;%s",
+        dateFormat.format(HolidayDates.indexOf(pos).get().getFindable().finDate(localDateUtil, year)),
+        holidayDetails.get(pos)))
+      .collect(Collectors.toList()).forEach(text -> {
+        String[] parts = text.split(";");
+        holidays.put(parts[0], parts[1]);
+      });
+    return holidays;
+  }
+
+  /**
+   * The current pipeline: date and name pairs put directly into the map of a
+   * newly calculated response.
+   *
+   * @return the holidays map.
+   */
+  @Benchmark
+  public Map<String, String> directPopulation() {
+    return uncachedCalculator.getHolidays(year).getHolidays();
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.benchmarks;
+
+import com.github.marlonlom.colombianholidayscalculator.HolidaysCalculator;
+import com.github.marlonlom.colombianholidayscalculator.HolidaysCalculatorResponse;
+import com.github.marlonlom.colombianholidayscalculator.HolidaysResponseCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trip benchmarks of {@link HolidaysResponseCodec} against Java
+ * serialization, for a single year and for a range of years. The encoded sizes
+ * of both formats are printed when the trial starts. Run with {@code -prof gc}
+ * to compare the allocation rates.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseCodecBenchmark {
+
+  /**
+   * First year of the encoded response.
+   */
+  private static final int FIRST_YEAR = 2024;
+
+  /**
+   * Number of years of the encoded response.
+   */
+  @Param({"1", "200"})
+  private int years;
+
+  /**
+   * The response to encode, with its holidays map built, as a cached response
+   * usually has.
+   */
+  private HolidaysCalculatorResponse response;
+
+  /**
+   * Reusable direct buffer for the codec round trip.
+   */
+  private ByteBuffer buffer;
+
+  /**
+   * Serializes a response with Java serialization.
+   *
+   * @param response the response
+   * @return the serialized bytes
+   * @throws IOException if serialization fails
+   */
+  private static byte[] serialize(HolidaysCalculatorResponse response) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      output.writeObject(response);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Prepares the response and the buffer, and prints the encoded sizes.
+   *
+   * @throws IOException if serialization fails
+   */
+  @Setup
+  public void setUp() throws IOException {
+    response = new HolidaysCalculator(0).getHolidays(FIRST_YEAR, FIRST_YEAR + years - 1);
+    response.getHolidays();
+    final int encodedSize = HolidaysResponseCodec.encodedSize(response);
+    buffer = ByteBuffer.allocateDirect(encodedSize);
+    System.out.printf("%nEncoded size of %d year(s): codec %d bytes, Java serialization %d bytes%n", years,
+      encodedSize, serialize(response).length);
+  }
+
+  /**
+   * Codec round trip through a reused direct buffer.
+   *
+   * @return the decoded response.
+   */
+  @Benchmark
+  public HolidaysCalculatorResponse codecRoundTrip() {
+    buffer.clear();
+    HolidaysResponseCodec.encode(response, buffer);
+    buffer.flip();
+    return HolidaysResponseCodec.decode(buffer);
+  }
+
+  /**
+   * Java serialization round trip through byte arrays.
+   *
+   * @return the deserialized response.
+   * @throws IOException            if serialization fails
+   * @throws ClassNotFoundException if deserialization fails
+   */
+  @Benchmark
+  public Object serializationRoundTrip() throws IOException, ClassNotFoundException {
+    try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(serialize(response)))) {
+      return input.readObject();
+    }
+  }
+}
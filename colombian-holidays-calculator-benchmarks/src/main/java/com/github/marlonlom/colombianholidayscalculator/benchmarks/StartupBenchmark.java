@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.benchmarks;
+
+import com.github.marlonlom.colombianholidayscalculator.HolidaysCalculator;
+import com.github.marlonlom.colombianholidayscalculator.HolidaysCalculatorResponse;
+import com.github.marlonlom.colombianholidayscalculator.config.ConfigSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup benchmarks, timing the first calculator and the first query of a
+ * fresh JVM, as paid by CLI tools and serverless functions. Every fork runs a
+ * single cold invocation, so the score averages many JVM starts. Add
+ * {@code -jvmArgsAppend -XX:SharedArchiveFile=app.jsa} to measure with an
+ * AppCDS archive.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+  /**
+   * Creates a calculator with the classpath configuration and makes one query.
+   *
+   * @return the response.
+   */
+  @Benchmark
+  public HolidaysCalculatorResponse firstQuery() {
+    return new HolidaysCalculator().getHolidays(2025);
+  }
+
+  /**
+   * Creates a calculator with the embedded configuration and makes one query.
+   *
+   * @return the response.
+   */
+  @Benchmark
+  public HolidaysCalculatorResponse firstQueryEmbedded() {
+    return new HolidaysCalculator(ConfigSnapshot.embedded()).getHolidays(2025);
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator;
+
+import com.github.marlonlom.colombianholidayscalculator.domain.HolidayYear;
+import com.github.marlonlom.colombianholidayscalculator.domain.HolidayYearIndex;
+import com.github.marlonlom.colombianholidayscalculator.util.LocalDateUtil;
+
+import java.time.LocalDate;
+
+/**
+ * Utility class for business day arithmetic on Colombia dates. <br>
+ * Saturdays, Sundays and colombian holidays are not business days. The
+ * calculations rely on the per-year business day counts of
+ * {@link HolidayYear}, so they run in time proportional to the number of years
+ * spanned, not to the number of days.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public class BusinessDaysCalculator {
+
+  /**
+   * Lazily populated per-year holiday tables.
+   */
+  private final HolidayYearIndex holidayYearIndex;
+
+  /**
+   * Constructs a new `BusinessDaysCalculator` instance.
+   */
+  public BusinessDaysCalculator() {
+    this(new HolidayYearIndex(new LocalDateUtil()));
+  }
+
+  /**
+   * Constructs a `BusinessDaysCalculator` instance, with the specified holiday
+   * year index.
+   *
+   * @param holidayYearIndex An instance of `HolidayYearIndex` providing the
+   *                         per-year holiday tables.
+   */
+  public BusinessDaysCalculator(HolidayYearIndex holidayYearIndex) {
+    super();
+    this.holidayYearIndex = holidayYearIndex;
+  }
+
+  /**
+   * Adds a number of business days to a date. <br>
+   * For positive amounts, the result is the n-th business day after the date,
+   * so that {@code businessDaysBetween(date, result) == days}. For negative
+   * amounts, the result is the n-th business day before the date. A zero amount
+   * returns the date unchanged.
+   *
+   * @param date The starting date.
+   * @param days The number of business days to add; may be negative.
+   * @return The resulting business day.
+   */
+  public LocalDate addBusinessDays(LocalDate date, int days) {
+    if (days == 0) {
+      return date;
+    }
+    int year = date.getYear();
+    HolidayYear holidayYear = holidayYearIndex.getYear(year);
+    long target = days > 0 ? holidayYear.countBusinessDays(date.getDayOfYear()) + (long) days
+      : holidayYear.countBusinessDays(date.getDayOfYear() - 1) + (long) days + 1L;
+    while (target > holidayYear.getBusinessDayCount()) {
+      target -= holidayYear.getBusinessDayCount();
+      holidayYear = holidayYearIndex.getYear(++year);
+    }
+    while (target < 1L) {
+      holidayYear = holidayYearIndex.getYear(--year);
+      target += holidayYear.getBusinessDayCount();
+    }
+    return LocalDate.ofYearDay(year, holidayYear.findBusinessDay((int) target));
+  }
+
+  /**
+   * Counts the business days after a starting date, up to and including an
+   * ending date. If the ending date is before the starting date, the count is
+   * negative.
+   *
+   * @param from The starting date (exclusive).
+   * @param to   The ending date (inclusive).
+   * @return The number of business days in between.
+   */
+  public long businessDaysBetween(LocalDate from, LocalDate to) {
+    if (from.isAfter(to)) {
+      return -businessDaysBetween(to, from);
+    }
+    long count = (long) holidayYearIndex.getYear(to.getYear()).countBusinessDays(to.getDayOfYear())
+      - holidayYearIndex.getYear(from.getYear()).countBusinessDays(from.getDayOfYear());
+    for (int year = from.getYear(); year < to.getYear(); year++) {
+      count += holidayYearIndex.getYear(year).getBusinessDayCount();
+    }
+    return count;
+  }
+
+  /**
+   * Checks whether a date is a business day, that is, neither a weekend day nor
+   * a colombian holiday.
+   *
+   * @param date The date to check.
+   * @return {@code true} if the date is a business day, {@code false} otherwise.
+   */
+  public boolean isBusinessDay(LocalDate date) {
+    return holidayYearIndex.getYear(date.getYear()).isBusinessDay(date.getDayOfYear());
+  }
+
+  /**
+   * Checks whether an instant falls on a business day, taking its date in the
+   * zone of the {@link HolidayYearIndex} date utility (the colombian offset by
+   * default), with no date object created.
+   *
+   * @param epochMillis The instant, as milliseconds since 1970-01-01T00:00Z.
+   * @return {@code true} if the instant falls on a business day, {@code false}
+   * otherwise.
+   */
+  public boolean isBusinessDay(long epochMillis) {
+    return holidayYearIndex.isBusinessDay(holidayYearIndex.getLocalDateUtil().toEpochDay(epochMillis));
+  }
+}
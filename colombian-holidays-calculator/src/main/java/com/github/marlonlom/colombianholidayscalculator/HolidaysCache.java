@@ -0,0 +1,212 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, per-year cache of calculated holidays. <br>
+ * Entries are kept in a concurrent map, so lookups never block. When the
+ * maximum number of years is exceeded, the least recently used year is evicted.
+ * Each entry records the configuration snapshot it was built with, so entries
+ * built before a configuration reload are treated as misses and replaced.
+ * Hit, miss and eviction counters are kept for monitoring purposes.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public final class HolidaysCache {
+
+  /**
+   * Default maximum number of years kept by the cache.
+   */
+  public static final int DEFAULT_MAXIMUM_SIZE = 32;
+
+  /**
+   * Cached entries, keyed by year.
+   */
+  private final Map<Integer, Entry> entries;
+
+  /**
+   * Maximum number of years kept by the cache.
+   */
+  private final int maximumSize;
+
+  /**
+   * Number of lookups that found a cached year.
+   */
+  private final LongAdder hitCount;
+
+  /**
+   * Number of lookups that did not find a cached year.
+   */
+  private final LongAdder missCount;
+
+  /**
+   * Number of years removed to keep the cache within its maximum size.
+   */
+  private final LongAdder evictionCount;
+
+  /**
+   * Constructs a new {@code HolidaysCache} instance.
+   *
+   * @param maximumSize The maximum number of years to keep; {@code 0} disables
+   *                    caching.
+   * @throws IllegalArgumentException if the maximum size is negative.
+   */
+  public HolidaysCache(int maximumSize) {
+    super();
+    if (maximumSize < 0) {
+      throw new IllegalArgumentException("Cache maximum size cannot be negative.");
+    }
+    this.maximumSize = maximumSize;
+    this.entries = new ConcurrentHashMap<>();
+    this.hitCount = new LongAdder();
+    this.missCount = new LongAdder();
+    this.evictionCount = new LongAdder();
+  }
+
+  /**
+   * Removes every cached year. Counters are not reset.
+   */
+  public void clear() {
+    entries.clear();
+  }
+
+  /**
+   * Retrieves the cached response for a given year, updating its access time.
+   *
+   * @param year    The year to look up.
+   * @param version The configuration snapshot the response must have been built
+   *                with.
+   * @return The cached response, or {@code null} if the year is not cached or
+   * was built with another configuration.
+   */
+  HolidaysCalculatorResponse get(int year, Object version) {
+    final Entry entry = entries.get(year);
+    if (entry == null || entry.version != version) {
+      missCount.increment();
+      return null;
+    }
+    entry.lastAccess = System.nanoTime();
+    hitCount.increment();
+    return entry.response;
+  }
+
+  /**
+   * Returns the number of years removed to keep the cache within its maximum
+   * size.
+   *
+   * @return the eviction count.
+   */
+  public long getEvictionCount() {
+    return evictionCount.sum();
+  }
+
+  /**
+   * Returns the number of lookups that found a cached year.
+   *
+   * @return the hit count.
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Returns the maximum number of years kept by the cache.
+   *
+   * @return the maximum size.
+   */
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  /**
+   * Returns the number of lookups that did not find a cached year.
+   *
+   * @return the miss count.
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Stores the response for a given year, evicting the least recently used
+   * years if the maximum size is exceeded.
+   *
+   * @param year     The year of the response.
+   * @param version  The configuration snapshot the response was built with.
+   * @param response The unmodifiable response to cache.
+   */
+  void put(int year, Object version, HolidaysCalculatorResponse response) {
+    if (maximumSize == 0) {
+      return;
+    }
+    entries.put(year, new Entry(version, response));
+    while (entries.size() > maximumSize) {
+      evictLeastRecentlyUsed();
+    }
+  }
+
+  /**
+   * Returns the number of cached years.
+   *
+   * @return the cache size.
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Removes the entry with the oldest access time. The scan is linear, which is
+   * cheap for the small number of years the cache is meant to hold.
+   */
+  private void evictLeastRecentlyUsed() {
+    Map.Entry<Integer, Entry> eldest = null;
+    for (Map.Entry<Integer, Entry> candidate : entries.entrySet()) {
+      if (eldest == null || candidate.getValue().lastAccess < eldest.getValue().lastAccess) {
+        eldest = candidate;
+      }
+    }
+    if (eldest != null && entries.remove(eldest.getKey(), eldest.getValue())) {
+      evictionCount.increment();
+    }
+  }
+
+  /**
+   * A cached response along with its configuration and last access time.
+   */
+  private static final class Entry {
+
+    /**
+     * The configuration snapshot the response was built with.
+     */
+    private final Object version;
+
+    /**
+     * The cached, unmodifiable response.
+     */
+    private final HolidaysCalculatorResponse response;
+
+    /**
+     * The last access time, as given by {@link System#nanoTime()}.
+     */
+    private volatile long lastAccess;
+
+    /**
+     * Instantiates a new cache entry.
+     *
+     * @param version  the configuration snapshot
+     * @param response the cached response
+     */
+    private Entry(Object version, HolidaysCalculatorResponse response) {
+      this.version = version;
+      this.response = response;
+      this.lastAccess = System.nanoTime();
+    }
+  }
+}
@@ -5,14 +5,29 @@
 package com.github.marlonlom.colombianholidayscalculator;
 
 import com.github.marlonlom.colombianholidayscalculator.config.ConfigProperties;
+import com.github.marlonlom.colombianholidayscalculator.config.ConfigSnapshot;
+import com.github.marlonlom.colombianholidayscalculator.config.HolidayNames;
+import com.github.marlonlom.colombianholidayscalculator.diagnostics.HolidaysCalculatorListener;
+import com.github.marlonlom.colombianholidayscalculator.domain.DayType;
+import com.github.marlonlom.colombianholidayscalculator.domain.Holiday;
 import com.github.marlonlom.colombianholidayscalculator.domain.HolidayDates;
+import com.github.marlonlom.colombianholidayscalculator.domain.HolidayRuleSet;
+import com.github.marlonlom.colombianholidayscalculator.domain.HolidaySpliterator;
+import com.github.marlonlom.colombianholidayscalculator.domain.HolidayYear;
+import com.github.marlonlom.colombianholidayscalculator.domain.HolidayYearIndex;
+import com.github.marlonlom.colombianholidayscalculator.domain.LongWeekend;
+import com.github.marlonlom.colombianholidayscalculator.domain.LongWeekendIterator;
 import com.github.marlonlom.colombianholidayscalculator.util.LocalDateUtil;
 
-import java.util.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Utility class for calculating Colombia Holidays.
@@ -34,12 +49,70 @@ public class HolidaysCalculator {
   private final ConfigProperties configProperties;
 
   /**
-   * Constructs a new `HolidaysCalculator` instance.
+   * Per-year cache of calculated holidays.
+   */
+  private final HolidaysCache holidaysCache;
+
+  /**
+   * Lazily populated per-year holiday bitsets, used for date queries.
+   */
+  private final HolidayYearIndex holidayYearIndex;
+
+  /**
+   * Business day arithmetic, sharing the holiday year index.
+   */
+  private final BusinessDaysCalculator businessDaysCalculator;
+
+  /**
+   * Listener notified of every holiday calculation, or {@code null} if none.
+   */
+  private volatile HolidaysCalculatorListener listener;
+
+  /**
+   * Constructs a new `HolidaysCalculator` instance, caching up to
+   * {@link HolidaysCache#DEFAULT_MAXIMUM_SIZE} years.
    */
   public HolidaysCalculator() {
-    super();
-    this.localDateUtil = new LocalDateUtil();
-    this.configProperties = new ConfigProperties();
+    this(HolidaysCache.DEFAULT_MAXIMUM_SIZE);
+  }
+
+  /**
+   * Constructs a new `HolidaysCalculator` instance, caching up to the given
+   * number of years.
+   *
+   * @param cacheMaximumSize The maximum number of years to cache; {@code 0}
+   *                         disables caching.
+   */
+  public HolidaysCalculator(int cacheMaximumSize) {
+    this(new LocalDateUtil(), new ConfigProperties(), new HolidaysCache(cacheMaximumSize));
+  }
+
+  /**
+   * Constructs a new `HolidaysCalculator` instance fixed to the given
+   * configuration, caching up to {@link HolidaysCache#DEFAULT_MAXIMUM_SIZE}
+   * years. <br>
+   * With {@link ConfigSnapshot#embedded()}, no configuration resource is read,
+   * which suits short-lived processes making a few queries.
+   *
+   * @param config The configuration snapshot.
+   * @throws IllegalArgumentException if the snapshot is {@code null}.
+   */
+  public HolidaysCalculator(ConfigSnapshot config) {
+    this(new LocalDateUtil(), new ConfigProperties(config), new HolidaysCache(HolidaysCache.DEFAULT_MAXIMUM_SIZE));
+  }
+
+  /**
+   * Constructs a new `HolidaysCalculator` instance computing the holidays of
+   * the given rule set, such as the built-in holidays plus company days off,
+   * caching up to {@link HolidaysCache#DEFAULT_MAXIMUM_SIZE} years. <br>
+   * Built-in holidays keep their configured names; custom rules are named by
+   * their identifier.
+   *
+   * @param rules The holiday rules.
+   * @throws IllegalArgumentException if the rule set is {@code null}.
+   */
+  public HolidaysCalculator(HolidayRuleSet rules) {
+    this(new LocalDateUtil(), new ConfigProperties(), new HolidaysCache(HolidaysCache.DEFAULT_MAXIMUM_SIZE), rules);
   }
 
   /**
@@ -52,9 +125,148 @@ public class HolidaysCalculator {
    *                         application configuration.
    */
   protected HolidaysCalculator(LocalDateUtil localDateUtil, ConfigProperties configProperties) {
+    this(localDateUtil, configProperties, new HolidaysCache(HolidaysCache.DEFAULT_MAXIMUM_SIZE));
+  }
+
+  /**
+   * Constructs a `HolidaysCalculator` instance, with the specified date utility,
+   * configuration properties and holidays cache.
+   *
+   * @param localDateUtil    An instance of `LocalDateUtil` for date-related
+   *                         operations.
+   * @param configProperties An instance of `ConfigProperties` containing
+   *                         application configuration.
+   * @param holidaysCache    An instance of `HolidaysCache` for keeping
+   *                         calculated years.
+   */
+  protected HolidaysCalculator(LocalDateUtil localDateUtil, ConfigProperties configProperties,
+                               HolidaysCache holidaysCache) {
+    this(localDateUtil, configProperties, holidaysCache, HolidayRuleSet.builtIn());
+  }
+
+  /**
+   * Constructs a `HolidaysCalculator` instance, with the specified date utility,
+   * configuration properties, holidays cache and holiday rules.
+   *
+   * @param localDateUtil    An instance of `LocalDateUtil` for date-related
+   *                         operations.
+   * @param configProperties An instance of `ConfigProperties` containing
+   *                         application configuration.
+   * @param holidaysCache    An instance of `HolidaysCache` for keeping
+   *                         calculated years.
+   * @param rules            The holiday rules.
+   * @throws IllegalArgumentException if the rule set is {@code null}.
+   */
+  protected HolidaysCalculator(LocalDateUtil localDateUtil, ConfigProperties configProperties,
+                               HolidaysCache holidaysCache, HolidayRuleSet rules) {
     super();
     this.localDateUtil = localDateUtil;
     this.configProperties = configProperties;
+    this.holidaysCache = holidaysCache;
+    this.holidayYearIndex = new HolidayYearIndex(localDateUtil, rules);
+    this.businessDaysCalculator = new BusinessDaysCalculator(holidayYearIndex);
+  }
+
+  /**
+   * Builds the typed response of computed years, attaching the configured
+   * holiday names. The configured names are matched by position with the
+   * {@link HolidayDates} ordinals, so built-in holidays without a name are left
+   * out; custom rules are named by their identifier.
+   *
+   * @param config       The configuration snapshot providing the names.
+   * @param holidayYears The computed holiday years, in chronological order.
+   * @return A new, unmodifiable {@code HolidaysCalculatorResponse}.
+   * @throws IllegalArgumentException if the configuration is incomplete, or names
+   *                                  more holidays than there are.
+   */
+  private HolidaysCalculatorResponse buildResponse(ConfigSnapshot config, HolidayYear... holidayYears) {
+    return buildResponse(config, config.getHolidayDetails(), Integer.MIN_VALUE, Integer.MAX_VALUE, holidayYears);
+  }
+
+  /**
+   * Builds the typed response of the holidays of computed years falling within a
+   * range of dates, attaching the given holiday names.
+   *
+   * @param config         The configuration snapshot providing the date format.
+   * @param holidayDetails The holiday names, indexed by {@link HolidayDates}
+   *                       ordinal.
+   * @param fromEpochDay   The first date of the range, as an epoch day.
+   * @param toEpochDay     The date after the last one of the range, as an epoch
+   *                       day.
+   * @param holidayYears   The computed holiday years, in chronological order.
+   * @return A new, unmodifiable {@code HolidaysCalculatorResponse}.
+   * @throws IllegalArgumentException if the configuration is incomplete, or names
+   *                                  more holidays than there are.
+   * @see #buildResponse(ConfigSnapshot, HolidayYear...)
+   */
+  private HolidaysCalculatorResponse buildResponse(ConfigSnapshot config, List<String> holidayDetails,
+                                                   int fromEpochDay, int toEpochDay, HolidayYear... holidayYears) {
+    final DateTimeFormatter dateFormatter = config.getHolidayDateFormatter();
+    if (dateFormatter == null || holidayDetails == null) {
+      throw new IllegalArgumentException("Config properties not initialized.");
+    }
+    if (holidayDetails.size() > HolidayDates.count()) {
+      throw new IllegalArgumentException("Could not find a holiday date.");
+    }
+    int count = 0;
+    for (HolidayYear holidayYear : holidayYears) {
+      final int last = holidayYear.ceilingIndex(toEpochDay);
+      for (int i = holidayYear.ceilingIndex(fromEpochDay); i < last; i++) {
+        count += holidayYear.getHolidayOrdinal(i) < holidayDetails.size() ? 1 : 0;
+      }
+    }
+    final int[] epochDays = new int[count];
+    final String[] names = new String[count];
+    int pos = 0;
+    for (HolidayYear holidayYear : holidayYears) {
+      final int last = holidayYear.ceilingIndex(toEpochDay);
+      for (int i = holidayYear.ceilingIndex(fromEpochDay); i < last; i++) {
+        final int ordinal = holidayYear.getHolidayOrdinal(i);
+        if (ordinal < holidayDetails.size()) {
+          epochDays[pos] = holidayYear.getEpochDay(i);
+          names[pos++] = ordinal < 0 ? holidayYear.getRule(i).getId() : holidayDetails.get(ordinal);
+        }
+      }
+    }
+    return new HolidaysCalculatorResponse(dateFormatter, config.getHolidayDatePattern(), epochDays, names);
+  }
+
+  /**
+   * Calculates the holidays of a given year, or retrieves them from the cache.
+   * The configuration snapshot is read once, so a concurrent reload does not
+   * affect the call, and cached years built with a previous snapshot are
+   * rebuilt.
+   *
+   * @param year The year for which to retrieve holidays.
+   * @return A successful {@code HolidaysCalculatorResponse}, or one holding the
+   * failure cause.
+   */
+  private HolidaysCalculatorResponse calculateHolidays(Integer year) {
+    try {
+      final ConfigSnapshot config = getConfigProperties().getSnapshot();
+      final HolidaysCalculatorResponse cached = year != null ? getHolidaysCache().get(year, config) : null;
+      if (cached != null) {
+        return cached;
+      }
+      final HolidaysCalculatorResponse response = buildResponse(requireReady(config),
+        getHolidayYearIndex().getYear(year));
+      if (response.isSuccess()) {
+        getHolidaysCache().put(year, config, response);
+      }
+      return response;
+    } catch (RuntimeException exception) {
+      return new HolidaysCalculatorResponse(exception);
+    }
+  }
+
+  /**
+   * Returns the business day calculator, which shares the holiday tables of
+   * this calculator.
+   *
+   * @return the business days calculator instance.
+   */
+  public BusinessDaysCalculator getBusinessDaysCalculator() {
+    return businessDaysCalculator;
   }
 
   /**
@@ -67,54 +279,145 @@ public class HolidaysCalculator {
   }
 
   /**
-   * Retrieves the formatted holiday date for a given position and year.
+   * Returns the per-year cache of calculated holidays, which exposes hit, miss
+   * and eviction counters.
    *
-   * @param pos  The ordinal position of the desired holiday.
-   * @param year The year for which to retrieve the holiday date.
-   * @return The formatted holiday date string, or an empty string if the holiday
-   * is not found.
+   * @return the holidays cache instance.
    */
-  private String getHolidayDate(int pos, Integer year) {
-    Optional<HolidayDates> optionalHolidayDate = HolidayDates.indexOf(pos);
-    if (!optionalHolidayDate.isPresent()) {
-      throw new IllegalArgumentException("Could not find a holiday date.");
-    }
-    final Date foundDate = optionalHolidayDate.get().getFindable().finDate(getLocalDateUtil(), year);
-    return getConfigProperties().getHolidayDateFormat().format(foundDate);
+  public HolidaysCache getHolidaysCache() {
+    return holidaysCache;
   }
 
   /**
    * Retrieves a {@code HolidaysCalculatorResponse} object containing holidays for
-   * a given year.
+   * a given year. This method does not lock, so a single calculator can be used
+   * by many threads at once. <br>
+   * The response holds the holidays in chronological order as a typed view, and
+   * builds its string map only when requested. Successful responses are
+   * unmodifiable and cached per year, so repeated calls for the same year return
+   * the same instance.
    *
    * @param year The year for which to retrieve holidays.
    * @return A {@code HolidaysCalculatorResponse} where keys represent holiday
    * dates or names, and values are holiday details.
    */
   public final HolidaysCalculatorResponse getHolidays(Integer year) {
+    final HolidaysCalculatorListener currentListener = listener;
+    if (currentListener == null) {
+      return calculateHolidays(year);
+    }
+    final long startNanos = System.nanoTime();
+    final HolidaysCalculatorResponse response = calculateHolidays(year);
+    currentListener.onHolidaysCalculated(year, response, System.nanoTime() - startNanos);
+    return response;
+  }
+
+  /**
+   * Retrieves a {@code HolidaysCalculatorResponse} containing the holidays of a
+   * given year, named in the given language. <br>
+   * Names come from the {@link HolidayNames} bundle of the locale, which is
+   * resolved once per process into interned names, so selecting a locale costs
+   * no parsing and no name allocation. Dates keep the configured format.
+   * Localized responses are not cached.
+   *
+   * @param year   The year for which to retrieve holidays.
+   * @param locale The language of the holiday names (e.g.,
+   *               {@link Locale#ENGLISH}).
+   * @return A {@code HolidaysCalculatorResponse} holding the named holidays, or
+   * the failure cause.
+   */
+  public final HolidaysCalculatorResponse getHolidays(int year, Locale locale) {
     try {
-      System.out.println("getHolidays / starting");
-      final HolidaysCalculatorResponse response = new HolidaysCalculatorResponse(
-        getConfigProperties().getHolidayDateFormat().toPattern());
-      if (!getConfigProperties().isReady()) {
-        throw new IllegalArgumentException("Config properties not initialized.");
-      }
-      final List<String> holidayDetails = this.getConfigProperties().getHolidayDetails();
-      IntStream.range(0, holidayDetails.size())
-        .mapToObj(pos -> String.format("%s;%s", this.getHolidayDate(pos, year), holidayDetails.get(pos)))
-        .collect(Collectors.toList()).forEach(text -> {
-          String[] parts = text.split(";");
-          response.getHolidays().put(parts[0], parts[1]);
-        });
-      return response;
+      final ConfigSnapshot config = requireReady(getConfigProperties().getSnapshot());
+      return buildResponse(config, HolidayNames.of(locale).asList(), Integer.MIN_VALUE, Integer.MAX_VALUE,
+        getHolidayYearIndex().getYear(year));
     } catch (RuntimeException exception) {
-      System.err.println("getHolidays / failed");
       return new HolidaysCalculatorResponse(exception);
-    } finally {
-      System.out.println("getHolidays / finished");
     }
   }
 
+  /**
+   * Retrieves a single {@code HolidaysCalculatorResponse} containing the
+   * holidays of a range of years, in chronological order. <br>
+   * Each year is resolved once into its primitive holiday table and copied into
+   * the typed view of the response, with no per-holiday formatting; the string
+   * map is only built if requested. Range responses are not cached.
+   *
+   * @param fromYear The first year of the range.
+   * @param toYear   The last year of the range, inclusive.
+   * @return A {@code HolidaysCalculatorResponse} holding the holidays of every
+   * year in the range, or the failure cause.
+   */
+  public final HolidaysCalculatorResponse getHolidays(int fromYear, int toYear) {
+    return getHolidays(fromYear, toYear, null);
+  }
+
+  /**
+   * Retrieves a single {@code HolidaysCalculatorResponse} containing the
+   * holidays of a range of years, in chronological order, optionally splitting
+   * the computation of the years across a fork-join pool.
+   *
+   * @param fromYear The first year of the range.
+   * @param toYear   The last year of the range, inclusive.
+   * @param pool     The fork-join pool used to compute the years in parallel
+   *                 (e.g., {@link ForkJoinPool#commonPool()}), or {@code null}
+   *                 to compute them on the calling thread.
+   * @return A {@code HolidaysCalculatorResponse} holding the holidays of every
+   * year in the range, or the failure cause.
+   * @see #getHolidays(int, int)
+   */
+  public final HolidaysCalculatorResponse getHolidays(int fromYear, int toYear, ForkJoinPool pool) {
+    try {
+      final ConfigSnapshot config = requireReady(getConfigProperties().getSnapshot());
+      return buildResponse(config, getHolidayYearIndex().getYears(fromYear, toYear, pool));
+    } catch (RuntimeException exception) {
+      return new HolidaysCalculatorResponse(exception);
+    }
+  }
+
+  /**
+   * Labels a date as a workday, a weekend day, a holiday, or a weekend day that
+   * is part of a long weekend ({@link DayType#BRIDGE}). <br>
+   * The label is read from the day type table of the year, built once along
+   * with its holidays.
+   *
+   * @param date The date to label.
+   * @return The day type.
+   */
+  public DayType getDayType(LocalDate date) {
+    return holidayYearIndex.getDayType(Math.toIntExact(date.toEpochDay()));
+  }
+
+  /**
+   * Calculates the date of a single holiday for a given year, such as Easter
+   * Sunday ({@link HolidayDates#HD07}), without building the rest of the year.
+   *
+   * @param holidayDate The holiday to calculate.
+   * @param year        The year of the holiday.
+   * @return The holiday date.
+   */
+  public LocalDate getHolidayDate(HolidayDates holidayDate, int year) {
+    return LocalDate.ofEpochDay(holidayDate.getEpochDay(year));
+  }
+
+  /**
+   * Returns the per-year holiday index used for date queries.
+   *
+   * @return the holiday year index instance.
+   */
+  public HolidayYearIndex getHolidayYearIndex() {
+    return holidayYearIndex;
+  }
+
+  /**
+   * Returns the listener notified of every holiday calculation.
+   *
+   * @return the listener, or {@code null} if none is installed.
+   */
+  public HolidaysCalculatorListener getListener() {
+    return listener;
+  }
+
   /**
    * Returns the utility class for handling {@link java.time.LocalDate} objects.
    *
@@ -123,4 +426,157 @@ public class HolidaysCalculator {
   public LocalDateUtil getLocalDateUtil() {
     return localDateUtil;
   }
+
+  /**
+   * Retrieves a single {@code HolidaysCalculatorResponse} containing the
+   * holidays falling within a range of dates, in chronological order. <br>
+   * The bounds are located by binary search within the primitive holiday tables
+   * of the first and last years, so no per-year response is built.
+   *
+   * @param from The first date of the range.
+   * @param to   The last date of the range, inclusive.
+   * @return A {@code HolidaysCalculatorResponse} holding the holidays within the
+   * range, or the failure cause.
+   */
+  public final HolidaysCalculatorResponse holidaysBetween(LocalDate from, LocalDate to) {
+    try {
+      final ConfigSnapshot config = requireReady(getConfigProperties().getSnapshot());
+      if (to.isBefore(from)) {
+        throw new IllegalArgumentException("The last date cannot be before the first one.");
+      }
+      return buildResponse(config, config.getHolidayDetails(), Math.toIntExact(from.toEpochDay()),
+        Math.toIntExact(to.toEpochDay() + 1L), getHolidayYearIndex().getYears(from.getYear(), to.getYear(), null));
+    } catch (RuntimeException exception) {
+      return new HolidaysCalculatorResponse(exception);
+    }
+  }
+
+  /**
+   * Checks whether a date is a colombian holiday. <br>
+   * The answer comes from a precomputed per-year bitset, so no response, map or
+   * formatted text is built; once a year stored by {@link HolidayYearIndex}
+   * has been computed, this method does not allocate.
+   *
+   * @param date The date to check.
+   * @return {@code true} if the date is a holiday, {@code false} otherwise.
+   */
+  public boolean isHoliday(LocalDate date) {
+    return holidayYearIndex.isHoliday(date.getYear(), date.getDayOfYear());
+  }
+
+  /**
+   * Checks whether an instant falls on a colombian holiday. <br>
+   * The date of the instant is taken in the zone of the {@link LocalDateUtil}
+   * (the fixed colombian offset by default) with plain arithmetic, so no date
+   * or zone object is involved, and, once the year has been computed, nothing
+   * is allocated.
+   *
+   * @param epochMillis The instant, as milliseconds since 1970-01-01T00:00Z.
+   * @return {@code true} if the instant falls on a holiday, {@code false}
+   * otherwise.
+   * @see BusinessDaysCalculator#isBusinessDay(long)
+   */
+  public boolean isHoliday(long epochMillis) {
+    return holidayYearIndex.isHoliday(localDateUtil.toEpochDay(epochMillis));
+  }
+
+  /**
+   * Returns a lazy iterator over the long weekends ("puentes festivos")
+   * overlapping a range of dates, that is, the runs of days off created by the
+   * holidays always observed on a Monday. Long weekends crossing the bounds of
+   * the range are returned whole.
+   *
+   * @param from The first date of the range.
+   * @param to   The last date of the range, inclusive.
+   * @return A chronologically ordered iterator of long weekends.
+   * @throws IllegalArgumentException if the last date is before the first one.
+   */
+  public Iterator<LongWeekend> longWeekends(LocalDate from, LocalDate to) {
+    return new LongWeekendIterator(holidayYearIndex, Math.toIntExact(from.toEpochDay()),
+      Math.toIntExact(to.toEpochDay()));
+  }
+
+  /**
+   * Finds the first colombian holiday strictly after a given date, crossing
+   * into the following year when needed. <br>
+   * The holiday is located by binary search within the primitive per-year
+   * holiday table, so no response is built.
+   *
+   * @param date The starting date (exclusive).
+   * @return The date of the next holiday.
+   * @throws NoSuchElementException if no holiday rule is in force
+   *                                after the date.
+   */
+  public LocalDate nextHoliday(LocalDate date) {
+    return LocalDate.ofEpochDay(holidayYearIndex.nextHoliday(Math.toIntExact(date.toEpochDay())));
+  }
+
+  /**
+   * Finds the last colombian holiday strictly before a given date, crossing
+   * into the previous year when needed.
+   *
+   * @param date The starting date (exclusive).
+   * @return The date of the previous holiday.
+   * @throws NoSuchElementException if no holiday rule is in force
+   *                                before the date.
+   * @see #nextHoliday(LocalDate)
+   */
+  public LocalDate previousHoliday(LocalDate date) {
+    return LocalDate.ofEpochDay(holidayYearIndex.previousHoliday(Math.toIntExact(date.toEpochDay())));
+  }
+
+  /**
+   * Checks that a configuration snapshot is ready for building responses.
+   *
+   * @param config The configuration snapshot read for the current call.
+   * @return the given snapshot.
+   * @throws IllegalArgumentException if the snapshot is not ready.
+   */
+  private static ConfigSnapshot requireReady(ConfigSnapshot config) {
+    if (!config.isReady()) {
+      throw new IllegalArgumentException("Config properties not initialized.", config.getFailure());
+    }
+    return config;
+  }
+
+  /**
+   * Installs a listener notified of every holiday calculation, such as
+   * {@link com.github.marlonlom.colombianholidayscalculator.diagnostics.HolidaysCalculatorMetrics}.
+   * Without a listener, calculations carry no diagnostics overhead.
+   *
+   * @param listener The listener to install, or {@code null} to remove it.
+   */
+  public void setListener(HolidaysCalculatorListener listener) {
+    this.listener = listener;
+  }
+
+  /**
+   * Returns a lazy stream of the colombian holidays from a given date on, up to
+   * the end of {@link HolidayYearIndex#MAX_YEAR}.
+   *
+   * @param from The first date (inclusive).
+   * @return A sequential, ordered stream of holidays.
+   * @see #streamHolidays(LocalDate, LocalDate)
+   */
+  public Stream<Holiday> streamHolidays(LocalDate from) {
+    return streamHolidays(from, LocalDate.of(HolidayYearIndex.MAX_YEAR, 12, 31));
+  }
+
+  /**
+   * Returns a lazy stream of the colombian holidays falling within a range of
+   * dates. <br>
+   * Each year is computed only when the stream reaches it, and only one year is
+   * held at a time, so long ranges do not need to be materialized. The stream is
+   * sized and splits by whole years, so {@link Stream#parallel()} spreads the
+   * computation across cores.
+   *
+   * @param from The first date of the range.
+   * @param to   The last date of the range, inclusive.
+   * @return A sequential, ordered stream of holidays.
+   * @throws IllegalArgumentException if the last date is before the first one.
+   */
+  public Stream<Holiday> streamHolidays(LocalDate from, LocalDate to) {
+    return StreamSupport.stream(new HolidaySpliterator(holidayYearIndex, Math.toIntExact(from.toEpochDay()),
+      Math.toIntExact(to.toEpochDay())), false);
+  }
 }
@@ -5,17 +5,27 @@
 package com.github.marlonlom.colombianholidayscalculator;
 
 import com.github.marlonlom.colombianholidayscalculator.domain.HolidayDateComparator;
+import com.github.marlonlom.colombianholidayscalculator.util.EpochDayFormat;
 
 import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.TreeMap;
 
 /**
  * A response object for holiday calculation requests. <br>
- * Contains a map of holidays and any potential failure that occurred during the
- * calculation process. <br>
- * This class is immutable with respect to the holidays map reference, but its
- * contents can be modified.
+ * Contains the calculated holidays and any potential failure that occurred
+ * during the calculation process. <br>
+ * Holidays are held as a typed view: epoch days in chronological order, each
+ * with its holiday name attached (see {@link #size()}, {@link #getDate(int)}
+ * and {@link #getName(int)}). The string map returned by
+ * {@link #getHolidays()} is a compatibility view, built from the typed view
+ * on first access. <br>
+ * Responses returned by {@link HolidaysCalculator} are fully unmodifiable, so
+ * they can be cached and shared between threads.
  *
  * @author marlonlom
  * @version 2.0.0
@@ -28,9 +38,49 @@ public final class HolidaysCalculatorResponse implements Serializable {
   private static final long serialVersionUID = -3933516128637417621L;
 
   /**
-   * A map containing calculated holiday dates.
+   * Empty epoch days, shared by responses with no typed view.
    */
-  private final Map<String, String> holidays;
+  private static final int[] NO_EPOCH_DAYS = new int[0];
+
+  /**
+   * Empty holiday names, shared by responses with no typed view.
+   */
+  private static final String[] NO_NAMES = new String[0];
+
+  /**
+   * Holiday dates as epoch days, in chronological order.
+   */
+  private final int[] epochDays;
+
+  /**
+   * Holiday names, where position {@code i} names the holiday at
+   * {@code epochDays[i]}.
+   */
+  private final String[] names;
+
+  /**
+   * The date pattern used for the keys of the holidays map.
+   */
+  private final String datePattern;
+
+  /**
+   * The formatter used for the keys of the holidays map. Rebuilt from the date
+   * pattern after deserialization.
+   */
+  private transient DateTimeFormatter dateFormatter;
+
+  /**
+   * Fast formatter for the keys of the holidays map, or {@code null} if the
+   * date pattern is not supported by it. Compiled from the date pattern when
+   * the map is built.
+   */
+  private transient EpochDayFormat epochDayFormat;
+
+  /**
+   * A map containing calculated holiday dates, built on first access for
+   * responses holding a typed view.
+   */
+  private volatile Map<String, String> holidays;
 
   /**
    * Represents an error that occurred during the holiday calculation process.
@@ -48,6 +98,9 @@ public final class HolidaysCalculatorResponse implements Serializable {
    */
   public HolidaysCalculatorResponse(final String datePattern) {
     super();
+    this.epochDays = NO_EPOCH_DAYS;
+    this.names = NO_NAMES;
+    this.datePattern = datePattern;
     this.holidays = new TreeMap<String, String>(new HolidayDateComparator(datePattern));
   }
 
@@ -61,10 +114,81 @@ public final class HolidaysCalculatorResponse implements Serializable {
    */
   public HolidaysCalculatorResponse(final Throwable throwable) {
     super();
+    this.epochDays = NO_EPOCH_DAYS;
+    this.names = NO_NAMES;
+    this.datePattern = null;
     this.holidays = new TreeMap<String, String>();
     this.failure = throwable;
   }
 
+  /**
+   * Constructs a new {@code HolidaysCalculatorResponse} holding a typed view of
+   * the calculated holidays. The arrays are owned by the response and must not
+   * be modified afterwards.
+   *
+   * @param dateFormatter the formatter used for the keys of the holidays map.
+   * @param datePattern   the pattern of the formatter.
+   * @param epochDays     the holiday dates as epoch days, in chronological
+   *                      order.
+   * @param names         the holiday names, aligned with the epoch days.
+   */
+  HolidaysCalculatorResponse(final DateTimeFormatter dateFormatter, final String datePattern,
+                             final int[] epochDays, final String[] names) {
+    super();
+    this.epochDays = epochDays;
+    this.names = names;
+    this.datePattern = datePattern;
+    this.dateFormatter = dateFormatter;
+  }
+
+  /**
+   * Constructs a new {@code HolidaysCalculatorResponse} with no typed view,
+   * holding a deserialized holidays map.
+   *
+   * @param holidays the holidays map, or {@code null}.
+   * @param failure  the cause of failure, or {@code null}.
+   */
+  private HolidaysCalculatorResponse(final Map<String, String> holidays, final Throwable failure) {
+    super();
+    this.epochDays = NO_EPOCH_DAYS;
+    this.names = NO_NAMES;
+    this.datePattern = null;
+    this.holidays = holidays != null ? holidays : new TreeMap<String, String>();
+    this.failure = failure;
+  }
+
+  /**
+   * Returns the date pattern used for the keys of the holidays map.
+   *
+   * @return the date pattern, or {@code null} for failed responses.
+   */
+  String getDatePattern() {
+    return datePattern;
+  }
+
+  /**
+   * Returns the date of the holiday at the given position.
+   *
+   * @param index the position of the holiday, from {@code 0} to
+   *              {@code size() - 1}.
+   * @return the holiday date.
+   */
+  public LocalDate getDate(int index) {
+    return LocalDate.ofEpochDay(epochDays[index]);
+  }
+
+  /**
+   * Returns the date of the holiday at the given position, as a number of days
+   * since 1970-01-01.
+   *
+   * @param index the position of the holiday, from {@code 0} to
+   *              {@code size() - 1}.
+   * @return the holiday epoch day.
+   */
+  public int getEpochDay(int index) {
+    return epochDays[index];
+  }
+
   /**
    * Returns the failure (if any) that occurred during the holiday calculation.
    *
@@ -76,12 +200,30 @@ public final class HolidaysCalculatorResponse implements Serializable {
   }
 
   /**
-   * Returns the map of holidays.
+   * Returns the map of holidays. <br>
+   * For responses holding a typed view, the map is unmodifiable, ordered
+   * chronologically and built on first access.
    *
    * @return a map where keys and values represent holiday-related information
    */
   public Map<String, String> getHolidays() {
-    return holidays;
+    Map<String, String> map = holidays;
+    if (map == null) {
+      map = materializeHolidays();
+      holidays = map;
+    }
+    return map;
+  }
+
+  /**
+   * Returns the name of the holiday at the given position.
+   *
+   * @param index the position of the holiday, from {@code 0} to
+   *              {@code size() - 1}.
+   * @return the holiday name.
+   */
+  public String getName(int index) {
+    return names[index];
   }
 
   /**
@@ -92,6 +234,54 @@ public final class HolidaysCalculatorResponse implements Serializable {
    * failure occurred
    */
   public boolean isSuccess() {
-    return failure == null && !holidays.isEmpty();
+    return failure == null && (epochDays.length > 0 || !getHolidays().isEmpty());
+  }
+
+  /**
+   * Builds the holidays map from the typed view, putting each date and name
+   * pair directly. Dates are formatted by {@link EpochDayFormat} when it
+   * supports the pattern, and by the date formatter otherwise. Holidays falling
+   * on the same date share a single key, holding the name of the last one.
+   *
+   * @return an unmodifiable map, ordered chronologically.
+   */
+  private Map<String, String> materializeHolidays() {
+    DateTimeFormatter formatter = dateFormatter;
+    if (formatter == null) {
+      formatter = DateTimeFormatter.ofPattern(datePattern);
+      dateFormatter = formatter;
+    }
+    EpochDayFormat format = epochDayFormat;
+    if (format == null) {
+      format = EpochDayFormat.compile(datePattern);
+      epochDayFormat = format;
+    }
+    final Map<String, String> map = new LinkedHashMap<>(epochDays.length * 4 / 3 + 1);
+    for (int i = 0; i < epochDays.length; i++) {
+      final String key = format != null && EpochDayFormat.canFormat(epochDays[i]) ? format.format(epochDays[i])
+        : formatter.format(LocalDate.ofEpochDay(epochDays[i]));
+      map.put(key, names[i]);
+    }
+    return Collections.unmodifiableMap(map);
+  }
+
+  /**
+   * Replaces responses serialized before the typed view existed, which only
+   * hold the holidays map and the failure, with a response keeping that map
+   * and an empty typed view.
+   *
+   * @return this response, or its replacement.
+   */
+  private Object readResolve() {
+    return epochDays != null && names != null ? this : new HolidaysCalculatorResponse(holidays, failure);
+  }
+
+  /**
+   * Returns the number of holidays held by the typed view.
+   *
+   * @return the number of holidays.
+   */
+  public int size() {
+    return epochDays.length;
   }
 }
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator;
+
+import com.github.marlonlom.colombianholidayscalculator.util.EpochDays;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Optional background service keeping a rolling window of years precomputed
+ * in a {@link HolidaysCalculator}, so callers do not pay for cold years after
+ * a deploy or on January 1st. <br>
+ * {@link #start()} computes the window (by default the current year, ten years
+ * before and ten years after) on a dedicated executor, using virtual threads
+ * when the runtime has them, and requests it again once a day afterwards, so
+ * years evicted from the cache or built with a reloaded configuration are
+ * computed again; years still cached are cache hits. The
+ * window is centered on the date {@link #DEFAULT_LEAD_DAYS} days ahead, so the
+ * years of a new calendar year are ready weeks before it starts. Holidays can
+ * also be requested asynchronously with {@link #getHolidaysAsync(int)}. <br>
+ * A failed daily check is counted in {@link #getFailedRefreshCount()} and
+ * leaves the failed years cold until the next day's check. <br>
+ * The service does not own the calculator; closing it only stops its threads.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public final class HolidaysPrecomputeService implements AutoCloseable {
+
+  /**
+   * Default number of years precomputed before and after the current one.
+   */
+  public static final int DEFAULT_YEARS_AROUND = 10;
+
+  /**
+   * Default number of days the window moves ahead of the calendar.
+   */
+  public static final int DEFAULT_LEAD_DAYS = 31;
+
+  /**
+   * Sequence used to name the threads of the fallback executor.
+   */
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+  /**
+   * The calculator whose years are precomputed.
+   */
+  private final HolidaysCalculator calculator;
+
+  /**
+   * Number of years precomputed before the window year.
+   */
+  private final int yearsBefore;
+
+  /**
+   * Number of years precomputed after the window year.
+   */
+  private final int yearsAfter;
+
+  /**
+   * Number of days the window moves ahead of the calendar.
+   */
+  private final int leadDays;
+
+  /**
+   * Clock giving the current date.
+   */
+  private final Clock clock;
+
+  /**
+   * Executor computing the years and the asynchronous requests.
+   */
+  private final ExecutorService executor;
+
+  /**
+   * Single daemon thread running the daily window check.
+   */
+  private final ScheduledExecutorService scheduler;
+
+  /**
+   * Whether the daily window check has been scheduled.
+   */
+  private final AtomicBoolean started = new AtomicBoolean();
+
+  /**
+   * Number of daily window checks that failed.
+   */
+  private final AtomicLong failedRefreshes = new AtomicLong();
+
+  /**
+   * First year of the precomputed window, guarded by {@code this}.
+   */
+  private int firstYear = Integer.MAX_VALUE;
+
+  /**
+   * Last year of the precomputed window, guarded by {@code this}.
+   */
+  private int lastYear = Integer.MIN_VALUE;
+
+  /**
+   * Constructs a new {@code HolidaysPrecomputeService} instance, keeping the
+   * current year and {@link #DEFAULT_YEARS_AROUND} years on each side
+   * precomputed.
+   *
+   * @param calculator The calculator whose years are precomputed.
+   */
+  public HolidaysPrecomputeService(HolidaysCalculator calculator) {
+    this(calculator, DEFAULT_YEARS_AROUND, DEFAULT_YEARS_AROUND, DEFAULT_LEAD_DAYS, Clock.systemUTC());
+  }
+
+  /**
+   * Constructs a new {@code HolidaysPrecomputeService} instance.
+   *
+   * @param calculator  The calculator whose years are precomputed.
+   * @param yearsBefore The number of years precomputed before the window year.
+   * @param yearsAfter  The number of years precomputed after the window year.
+   * @param leadDays    The number of days the window moves ahead of the
+   *                    calendar.
+   * @param clock       The clock giving the current instant, dated in the zone
+   *                    of the calculator {@code LocalDateUtil}.
+   * @throws IllegalArgumentException if an argument is missing or negative, or
+   *                                  the window does not fit the calculator
+   *                                  cache.
+   */
+  public HolidaysPrecomputeService(HolidaysCalculator calculator, int yearsBefore, int yearsAfter, int leadDays,
+                                   Clock clock) {
+    super();
+    if (calculator == null || clock == null) {
+      throw new IllegalArgumentException("Calculator and clock cannot be null.");
+    }
+    if (yearsBefore < 0 || yearsAfter < 0 || leadDays < 0) {
+      throw new IllegalArgumentException("Precompute window cannot be negative.");
+    }
+    final int cacheSize = calculator.getHolidaysCache().getMaximumSize();
+    if (cacheSize > 0 && yearsBefore + yearsAfter + 1 > cacheSize) {
+      throw new IllegalArgumentException("Precompute window larger than the holidays cache: " + cacheSize);
+    }
+    this.calculator = calculator;
+    this.yearsBefore = yearsBefore;
+    this.yearsAfter = yearsAfter;
+    this.leadDays = leadDays;
+    this.clock = clock;
+    this.executor = newExecutor();
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory());
+  }
+
+  /**
+   * Returns a thread factory creating named daemon threads, so the service
+   * never keeps the JVM alive.
+   *
+   * @return the thread factory.
+   */
+  private static ThreadFactory daemonThreadFactory() {
+    return runnable -> {
+      final Thread thread = new Thread(runnable, "holidays-precompute-" + THREAD_COUNT.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * Creates the executor computing the years: a virtual thread per task on
+   * runtimes providing them, looked up reflectively so the class also runs on
+   * Java 8, and a small pool of daemon threads otherwise.
+   *
+   * @return the executor.
+   */
+  private static ExecutorService newExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException exception) {
+      final int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+      return Executors.newFixedThreadPool(threads, daemonThreadFactory());
+    }
+  }
+
+  /**
+   * Stops the daily window check and the executor. Computations already
+   * running are allowed to finish.
+   */
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+    executor.shutdown();
+  }
+
+  /**
+   * Returns the number of daily window checks that failed, either because a
+   * year could not be computed or because the check could not be started.
+   * Each failure leaves the window stale until the next day's check.
+   *
+   * @return the failed check count.
+   */
+  public long getFailedRefreshCount() {
+    return failedRefreshes.get();
+  }
+
+  /**
+   * Returns the first year of the precomputed window.
+   *
+   * @return the first year, or {@link Integer#MAX_VALUE} before the first
+   * refresh.
+   */
+  public synchronized int getFirstYear() {
+    return firstYear;
+  }
+
+  /**
+   * Retrieves the holidays of a year on the executor of this service.
+   *
+   * @param year The year for which to retrieve holidays.
+   * @return A future completed with the response, which may hold a failure.
+   * @see HolidaysCalculator#getHolidays(Integer)
+   */
+  public CompletableFuture<HolidaysCalculatorResponse> getHolidaysAsync(int year) {
+    return CompletableFuture.supplyAsync(() -> calculator.getHolidays(year), executor);
+  }
+
+  /**
+   * Retrieves the holidays of a range of years on the executor of this
+   * service.
+   *
+   * @param fromYear The first year of the range.
+   * @param toYear   The last year of the range, inclusive.
+   * @return A future completed with the response, which may hold a failure.
+   * @see HolidaysCalculator#getHolidays(int, int)
+   */
+  public CompletableFuture<HolidaysCalculatorResponse> getHolidaysAsync(int fromYear, int toYear) {
+    return CompletableFuture.supplyAsync(() -> calculator.getHolidays(fromYear, toYear), executor);
+  }
+
+  /**
+   * Returns the last year of the precomputed window.
+   *
+   * @return the last year, or {@link Integer#MIN_VALUE} before the first
+   * refresh.
+   */
+  public synchronized int getLastYear() {
+    return lastYear;
+  }
+
+  /**
+   * Moves the window to the current date and requests every year of it. Years
+   * still cached are answered from the cache; years entering the window,
+   * evicted from the cache or cached with a previous configuration are
+   * computed.
+   *
+   * @return A future completed once every year of the window is cached, or
+   * completed exceptionally if a year could not be computed.
+   */
+  public CompletableFuture<Void> refresh() {
+    final int today = calculator.getLocalDateUtil().toEpochDay(clock.millis());
+    final int windowYear = EpochDays.year(today + leadDays);
+    final List<CompletableFuture<Void>> computations = new ArrayList<>();
+    synchronized (this) {
+      final int from = windowYear - yearsBefore;
+      final int to = windowYear + yearsAfter;
+      for (int year = from; year <= to; year++) {
+        final int requestedYear = year;
+        computations.add(CompletableFuture.runAsync(() -> {
+          final HolidaysCalculatorResponse response = calculator.getHolidays(requestedYear);
+          if (!response.isSuccess()) {
+            throw new IllegalStateException("Could not precompute year " + requestedYear, response.getFailure());
+          }
+        }, executor));
+      }
+      firstYear = from;
+      lastYear = to;
+    }
+    return CompletableFuture.allOf(computations.toArray(new CompletableFuture<?>[0]));
+  }
+
+  /**
+   * Runs the daily window check, counting its failure instead of letting it
+   * cancel the following checks.
+   */
+  void scheduledRefresh() {
+    try {
+      refresh().whenComplete((ignored, failure) -> {
+        if (failure != null) {
+          failedRefreshes.incrementAndGet();
+        }
+      });
+    } catch (RuntimeException exception) {
+      failedRefreshes.incrementAndGet();
+    }
+  }
+
+  /**
+   * Precomputes the window and schedules a daily window check.
+   *
+   * @return A future completed once the initial window is computed.
+   * @throws IllegalStateException if the service was already started.
+   */
+  public CompletableFuture<Void> start() {
+    if (!started.compareAndSet(false, true)) {
+      throw new IllegalStateException("Precompute service already started.");
+    }
+    final CompletableFuture<Void> initialWindow = refresh();
+    scheduler.scheduleWithFixedDelay(this::scheduledRefresh, 1L, 1L, TimeUnit.DAYS);
+    return initialWindow;
+  }
+}
@@ -0,0 +1,390 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator;
+
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compact binary codec for {@link HolidaysCalculatorResponse}, meant for
+ * distributed caches and RPC. <br>
+ * Holidays are written as variable-length deltas between consecutive epoch
+ * days, each followed by the id of its name within a table of the distinct
+ * names of the response, so each holiday takes two or three bytes, and each
+ * distinct name is written once. Neither the holidays map, its
+ * comparator nor the date formatter are written; the map is rebuilt from the
+ * date pattern on first access after decoding. Failures are carried as their
+ * message only, and decoded as an {@link IllegalArgumentException}. <br>
+ * Encoding and decoding work directly on a {@link ByteBuffer}, heap or direct,
+ * with no intermediate streams.
+ *
+ * <pre>
+ * byte    format version (1)
+ * byte    kind: 0 for holidays, 1 for a failure
+ * holidays:
+ *   string  date pattern
+ *   varint  name count, followed by the names as strings
+ *   varint  holiday count, followed by, for every holiday,
+ *           a zig-zag varint epoch day delta and a varint name id
+ * failure:
+ *   string  failure message
+ * string: varint (byte length + 1, or 0 for null), followed by UTF-8 bytes
+ * </pre>
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public final class HolidaysResponseCodec {
+
+  /**
+   * Version of the binary format.
+   */
+  private static final byte FORMAT_VERSION = 1;
+
+  /**
+   * Kind of an encoded response holding holidays.
+   */
+  private static final byte KIND_HOLIDAYS = 0;
+
+  /**
+   * Kind of an encoded response holding a failure.
+   */
+  private static final byte KIND_FAILURE = 1;
+
+  /**
+   * Constructs a new {@code HolidaysResponseCodec} instance.
+   */
+  private HolidaysResponseCodec() {
+    super();
+  }
+
+  /**
+   * Decodes a response, reading from the current position of a buffer. On
+   * return, the position is after the encoded response.
+   *
+   * @param buffer The buffer holding the encoded response.
+   * @return A new, unmodifiable {@code HolidaysCalculatorResponse}.
+   * @throws IllegalArgumentException if the buffer does not hold a valid
+   *                                  encoded response.
+   */
+  public static HolidaysCalculatorResponse decode(ByteBuffer buffer) {
+    try {
+      if (buffer.get() != FORMAT_VERSION) {
+        throw new IllegalArgumentException("Unsupported holidays response format.");
+      }
+      final byte kind = buffer.get();
+      if (kind == KIND_FAILURE) {
+        return new HolidaysCalculatorResponse(new IllegalArgumentException(readString(buffer)));
+      }
+      if (kind != KIND_HOLIDAYS) {
+        throw new IllegalArgumentException("Unsupported holidays response kind.");
+      }
+      final String datePattern = readString(buffer);
+      final String[] dictionary = new String[readLength(buffer)];
+      for (int i = 0; i < dictionary.length; i++) {
+        dictionary[i] = readString(buffer);
+      }
+      final int count = readLength(buffer);
+      final int[] epochDays = new int[count];
+      final String[] names = new String[count];
+      int epochDay = 0;
+      for (int i = 0; i < count; i++) {
+        final int delta = readVarint(buffer);
+        epochDay += (delta >>> 1) ^ -(delta & 1);
+        epochDays[i] = epochDay;
+        final int nameId = readVarint(buffer);
+        if (nameId < 0 || nameId >= dictionary.length) {
+          throw new IllegalArgumentException("Invalid holiday name id.");
+        }
+        names[i] = dictionary[nameId];
+      }
+      return new HolidaysCalculatorResponse(null, datePattern, epochDays, names);
+    } catch (BufferUnderflowException exception) {
+      throw new IllegalArgumentException("Truncated holidays response.", exception);
+    }
+  }
+
+  /**
+   * Encodes a response into a new heap buffer of the exact encoded size.
+   *
+   * @param response The response to encode.
+   * @return A buffer holding the encoded response, ready to be read.
+   * @throws IllegalArgumentException if the response only holds holidays added
+   *                                  to its map, which cannot be encoded.
+   */
+  public static ByteBuffer encode(HolidaysCalculatorResponse response) {
+    final Encoding encoding = new Encoding(response);
+    final ByteBuffer buffer = ByteBuffer.allocate(encoding.size);
+    encoding.writeTo(buffer);
+    ((Buffer) buffer).flip();
+    return buffer;
+  }
+
+  /**
+   * Encodes a response, writing at the current position of a buffer. On
+   * return, the position is after the encoded response.
+   *
+   * @param response The response to encode.
+   * @param buffer   The buffer receiving the encoded response, heap or direct.
+   * @throws BufferOverflowException  if the buffer has not enough space left;
+   *                                  nothing is written then.
+   * @throws IllegalArgumentException if the response only holds holidays added
+   *                                  to its map, which cannot be encoded.
+   * @see #encodedSize(HolidaysCalculatorResponse)
+   */
+  public static void encode(HolidaysCalculatorResponse response, ByteBuffer buffer) {
+    final Encoding encoding = new Encoding(response);
+    if (buffer.remaining() < encoding.size) {
+      throw new BufferOverflowException();
+    }
+    encoding.writeTo(buffer);
+  }
+
+  /**
+   * Returns the number of bytes needed to encode a response.
+   *
+   * @param response The response to encode.
+   * @return the encoded size.
+   * @throws IllegalArgumentException if the response only holds holidays added
+   *                                  to its map, which cannot be encoded.
+   */
+  public static int encodedSize(HolidaysCalculatorResponse response) {
+    return new Encoding(response).size;
+  }
+
+  /**
+   * Reads a non-negative length, written as a varint.
+   *
+   * @param buffer The buffer to read from.
+   * @return the length.
+   * @throws IllegalArgumentException if the length exceeds the remaining bytes.
+   */
+  private static int readLength(ByteBuffer buffer) {
+    final int length = readVarint(buffer);
+    if (length < 0 || length > buffer.remaining()) {
+      throw new IllegalArgumentException("Invalid length in holidays response.");
+    }
+    return length;
+  }
+
+  /**
+   * Reads a nullable UTF-8 string. Heap buffers are decoded in place.
+   *
+   * @param buffer The buffer to read from.
+   * @return the string, or {@code null}.
+   */
+  private static String readString(ByteBuffer buffer) {
+    final int lengthPlusOne = readVarint(buffer);
+    if (lengthPlusOne == 0) {
+      return null;
+    }
+    final int length = lengthPlusOne - 1;
+    if (length < 0 || length > buffer.remaining()) {
+      throw new IllegalArgumentException("Invalid length in holidays response.");
+    }
+    final String value;
+    if (buffer.hasArray()) {
+      // Called through Buffer, so the class also links on Java 8 runtimes.
+      value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+      ((Buffer) buffer).position(buffer.position() + length);
+    } else {
+      final byte[] bytes = new byte[length];
+      buffer.get(bytes);
+      value = new String(bytes, StandardCharsets.UTF_8);
+    }
+    return value;
+  }
+
+  /**
+   * Reads an unsigned LEB128 varint of up to 32 bits.
+   *
+   * @param buffer The buffer to read from.
+   * @return the value.
+   * @throws IllegalArgumentException if the varint is longer than five bytes.
+   */
+  private static int readVarint(ByteBuffer buffer) {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      final byte current = buffer.get();
+      value |= (current & 0x7F) << shift;
+      if (current >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint in holidays response.");
+  }
+
+  /**
+   * Returns the encoded size of an unsigned varint.
+   *
+   * @param value The value.
+   * @return the number of bytes, from 1 to 5.
+   */
+  private static int varintSize(int value) {
+    int size = 1;
+    while ((value & ~0x7F) != 0) {
+      value >>>= 7;
+      size++;
+    }
+    return size;
+  }
+
+  /**
+   * Writes an unsigned LEB128 varint.
+   *
+   * @param buffer The buffer to write to.
+   * @param value  The value.
+   */
+  private static void writeVarint(ByteBuffer buffer, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  /**
+   * Prepared encoding of a response: its strings as UTF-8, its name table and
+   * its exact encoded size.
+   */
+  private static final class Encoding {
+
+    /**
+     * The response to encode.
+     */
+    private final HolidaysCalculatorResponse response;
+
+    /**
+     * The date pattern, or the failure message, as UTF-8, or {@code null}.
+     */
+    private final byte[] header;
+
+    /**
+     * The distinct names, as UTF-8, in name id order.
+     */
+    private final byte[][] dictionary;
+
+    /**
+     * The name id of every holiday.
+     */
+    private final int[] nameIds;
+
+    /**
+     * The exact encoded size.
+     */
+    private final int size;
+
+    /**
+     * Prepares the encoding of a response.
+     *
+     * @param response the response to encode
+     */
+    private Encoding(HolidaysCalculatorResponse response) {
+      this.response = response;
+      final Throwable failure = response.getFailure();
+      if (failure != null) {
+        this.header = toBytes(failure.getMessage());
+        this.dictionary = new byte[0][];
+        this.nameIds = new int[0];
+        this.size = 2 + stringSize(header);
+        return;
+      }
+      if (response.size() == 0 && !response.getHolidays().isEmpty()) {
+        throw new IllegalArgumentException("Only calculated holidays can be encoded.");
+      }
+      this.header = toBytes(response.getDatePattern());
+      final Map<String, Integer> ids = new HashMap<>();
+      final byte[][] names = new byte[response.size()][];
+      this.nameIds = new int[response.size()];
+      int total = 2 + stringSize(header) + varintSize(response.size());
+      int previous = 0;
+      for (int i = 0; i < nameIds.length; i++) {
+        final String name = response.getName(i);
+        Integer id = ids.get(name);
+        if (id == null) {
+          id = ids.size();
+          ids.put(name, id);
+          names[id] = toBytes(name);
+          total += stringSize(names[id]);
+        }
+        nameIds[i] = id;
+        final int delta = response.getEpochDay(i) - previous;
+        previous = response.getEpochDay(i);
+        total += varintSize((delta << 1) ^ (delta >> 31)) + varintSize(id);
+      }
+      this.dictionary = new byte[ids.size()][];
+      System.arraycopy(names, 0, dictionary, 0, dictionary.length);
+      this.size = total + varintSize(dictionary.length);
+    }
+
+    /**
+     * Returns the encoded size of a nullable string.
+     *
+     * @param bytes the UTF-8 bytes, or {@code null}
+     * @return the number of bytes
+     */
+    private static int stringSize(byte[] bytes) {
+      return bytes == null ? 1 : varintSize(bytes.length + 1) + bytes.length;
+    }
+
+    /**
+     * Converts a nullable string to UTF-8.
+     *
+     * @param value the string, or {@code null}
+     * @return the bytes, or {@code null}
+     */
+    private static byte[] toBytes(String value) {
+      return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a nullable string.
+     *
+     * @param buffer the buffer to write to
+     * @param bytes  the UTF-8 bytes, or {@code null}
+     */
+    private static void writeString(ByteBuffer buffer, byte[] bytes) {
+      if (bytes == null) {
+        buffer.put((byte) 0);
+        return;
+      }
+      writeVarint(buffer, bytes.length + 1);
+      buffer.put(bytes);
+    }
+
+    /**
+     * Writes the encoded response.
+     *
+     * @param buffer the buffer to write to, with enough space left
+     */
+    private void writeTo(ByteBuffer buffer) {
+      buffer.put(FORMAT_VERSION);
+      if (response.getFailure() != null) {
+        buffer.put(KIND_FAILURE);
+        writeString(buffer, header);
+        return;
+      }
+      buffer.put(KIND_HOLIDAYS);
+      writeString(buffer, header);
+      writeVarint(buffer, dictionary.length);
+      for (byte[] name : dictionary) {
+        writeString(buffer, name);
+      }
+      writeVarint(buffer, nameIds.length);
+      int previous = 0;
+      for (int i = 0; i < nameIds.length; i++) {
+        final int delta = response.getEpochDay(i) - previous;
+        previous = response.getEpochDay(i);
+        writeVarint(buffer, (delta << 1) ^ (delta >> 31));
+        writeVarint(buffer, nameIds[i]);
+      }
+    }
+  }
+}
@@ -4,17 +4,19 @@
  */
 package com.github.marlonlom.colombianholidayscalculator.config;
 
-import java.io.InputStream;
 import java.text.SimpleDateFormat;
-import java.util.Arrays;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Properties;
-import java.util.stream.Collectors;
 
 /**
- * Manages the loading and access of configuration properties from a file. This
- * class handles reading holiday date formats and holiday names, and provides
- * methods to check if the configuration was loaded successfully.
+ * Provides access to the holiday configuration: the holiday date format and
+ * the holiday names, and whether the configuration was loaded successfully.
+ * <br>
+ * The values are read from a {@link ConfigSnapshot}. Instances created with the
+ * default constructor follow the process-wide snapshot, so they cost no I/O and
+ * see {@link ConfigSnapshot#reload(java.nio.file.Path) reloads}; instances
+ * created from {@link Properties} keep their own snapshot.
  *
  * @author marlonlom
  * @version 2.0.0
@@ -22,28 +24,34 @@ import java.util.stream.Collectors;
 public class ConfigProperties {
 
   /**
-   * The date format used for parsing and formatting holiday dates.
+   * The snapshot parsed from the given properties, or {@code null} to follow
+   * the process-wide snapshot.
    */
-  private SimpleDateFormat holidayDateFormat;
+  private final ConfigSnapshot snapshot;
 
   /**
-   * A list of strings containing details or names for various holidays.
+   * Constructs a new {@code ConfigProperties} instance, backed by the
+   * process-wide snapshot read from the default file named "config.properties".
    */
-  private List<String> holidayDetails;
-
-  /**
-   * Indicates whether the configuration properties have been successfully loaded
-   * and initialized. {@code true} if ready, {@code false} otherwise.
-   */
-  private boolean ready;
+  public ConfigProperties() {
+    super();
+    this.snapshot = null;
+  }
 
   /**
-   * Constructs a new {@code ConfigProperties} instance, loading properties from
-   * the default file named "config.properties".
+   * Constructs a new {@code ConfigProperties} instance fixed to the given
+   * snapshot, such as {@link ConfigSnapshot#embedded()}. Later reloads of the
+   * process-wide snapshot are not followed.
+   *
+   * @param snapshot The configuration snapshot.
+   * @throws IllegalArgumentException if the snapshot is {@code null}.
    */
-  public ConfigProperties() {
+  public ConfigProperties(ConfigSnapshot snapshot) {
     super();
-    this.readConfig(initializeProperties("config.properties"));
+    if (snapshot == null) {
+      throw new IllegalArgumentException("Config snapshot cannot be null.");
+    }
+    this.snapshot = snapshot;
   }
 
   /**
@@ -55,88 +63,75 @@ public class ConfigProperties {
    */
   protected ConfigProperties(Properties properties) {
     super();
-    this.readConfig(properties);
+    this.snapshot = ConfigSnapshot.of(properties);
+  }
+
+  /**
+   * Retrieves the error that prevented the configuration from being
+   * initialized.
+   *
+   * @return A {@link RuntimeException}, or {@code null} if the configuration is
+   * ready or no error occurred.
+   */
+  public RuntimeException getFailure() {
+    return getSnapshot().getFailure();
   }
 
   /**
-   * Retrieves the configured {@link SimpleDateFormat} for holiday dates.
+   * Retrieves a {@link SimpleDateFormat} for holiday dates. A new instance is
+   * returned on every call, since {@link SimpleDateFormat} is not safe for use
+   * across threads.
    *
    * @return A {@link SimpleDateFormat} object, or {@code null} if not
    * initialized.
+   * @deprecated use {@link #getHolidayDateFormatter()}, which is immutable and
+   * can be shared between threads.
    */
+  @Deprecated
   public SimpleDateFormat getHolidayDateFormat() {
-    return holidayDateFormat;
+    final String holidayDatePattern = getHolidayDatePattern();
+    return holidayDatePattern != null ? new SimpleDateFormat(holidayDatePattern) : null;
   }
 
   /**
-   * Retrieves the list of configured holiday names or details.
+   * Retrieves the configured holiday date pattern (e.g., {@code "dd/MM/yyyy"}).
    *
-   * @return A {@link List} of strings representing holiday details, or
-   * {@code null} if not initialized.
+   * @return The date pattern, or {@code null} if not initialized.
    */
-  public List<String> getHolidayDetails() {
-    return holidayDetails;
+  public String getHolidayDatePattern() {
+    return getSnapshot().getHolidayDatePattern();
   }
 
   /**
-   * Initializes the {@link SimpleDateFormat} from the "holiday.date_format"
-   * property.
+   * Retrieves the configured {@link DateTimeFormatter} for holiday dates. The
+   * formatter is immutable and safe for concurrent use.
    *
-   * @param properties The {@link Properties} object containing configuration.
-   * @throws RuntimeException if the date format property is missing, empty, or
-   *                          invalid.
+   * @return A {@link DateTimeFormatter} object, or {@code null} if not
+   * initialized.
    */
-  private void initializeDateFormat(Properties properties) throws RuntimeException {
-    String dateFormatString = properties.getProperty("holiday.date_format");
-    try {
-      if (dateFormatString == null || dateFormatString.trim().isEmpty()) {
-        throw new IllegalArgumentException("Date format text property cannot be empty.");
-      }
-      this.holidayDateFormat = new SimpleDateFormat(dateFormatString);
-    } catch (IllegalArgumentException e) {
-      throw new IllegalArgumentException("Invalid date format: " + dateFormatString, e);
-    }
+  public DateTimeFormatter getHolidayDateFormatter() {
+    return getSnapshot().getHolidayDateFormatter();
   }
 
   /**
-   * Initializes the list of holiday details from the "holiday.details" property.
-   * Details are expected to be semicolon-separated.
+   * Retrieves the list of configured holiday names or details.
    *
-   * @param properties The {@link Properties} object containing configuration.
-   * @throws RuntimeException if the holiday details property is missing or empty.
+   * @return An unmodifiable {@link List} of strings representing holiday
+   * details, or {@code null} if not initialized.
    */
-  private void initializeHolidayNames(Properties properties) throws RuntimeException {
-    String holidayDetailsString = properties.getProperty("holiday.details");
-    if (holidayDetailsString == null || holidayDetailsString.trim().isEmpty()) {
-      throw new IllegalArgumentException("Holiday names text property cannot be empty.");
-    }
-    List<String> holidayDetails = Arrays.stream(holidayDetailsString.split(";")).map(String::trim)
-      .collect(Collectors.toList());
-    this.setHolidayDetails(holidayDetails);
+  public List<String> getHolidayDetails() {
+    return getSnapshot().getHolidayDetails();
   }
 
   /**
-   * Loads properties from the specified file name. The file is expected to be
-   * found in the classpath.
+   * Retrieves the configuration snapshot backing this instance. Callers reading
+   * several values should read them from a single snapshot, so that a
+   * concurrent reload cannot mix values of two configurations.
    *
-   * @param fileName The name of the properties file (e.g., "config.properties").
-   * @return A {@link Properties} object containing the loaded properties.
-   * @throws IllegalArgumentException if the file cannot be read or found.
+   * @return The immutable {@link ConfigSnapshot}.
    */
-  private Properties initializeProperties(String fileName) {
-    System.out.println("initializeProperties / starting");
-    Properties properties = new Properties();
-    try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(fileName)) {
-      properties.load(inputStream);
-    } catch (Throwable throwable) {
-      final String failureMessage = throwable != null ? String.format("(%s)", throwable.getMessage())
-        : "Failed to read config properties.";
-      System.err.println("initializeProperties / failed ".concat(failureMessage));
-      throw new IllegalArgumentException(failureMessage, throwable);
-    } finally {
-      System.out.println("initializeProperties / finished");
-    }
-    return properties;
+  public ConfigSnapshot getSnapshot() {
+    return snapshot != null ? snapshot : ConfigSnapshot.current();
   }
 
   /**
@@ -146,47 +141,7 @@ public class ConfigProperties {
    * otherwise.
    */
   public boolean isReady() {
-    return ready;
-  }
-
-  /**
-   * Reads and validates configuration properties. Initializes the date format and
-   * holiday names based on the provided properties. Sets the ready status based
-   * on the success of initialization.
-   *
-   * @param properties The {@link Properties} object to read configuration from.
-   */
-  private void readConfig(Properties properties) {
-    try {
-      if (properties.isEmpty()) {
-        throw new IllegalArgumentException("Config properties cannot be empty.");
-      }
-      this.initializeDateFormat(properties);
-      this.initializeHolidayNames(properties);
-      this.setReady(true);
-    } catch (RuntimeException runtimeException) {
-      this.setReady(false);
-      System.err.println("readConfig / failed ".concat(runtimeException.getMessage()));
-    }
-  }
-
-  /**
-   * Sets the list of holiday details.
-   *
-   * @param holidayDetails The list of holiday detail strings.
-   */
-  private void setHolidayDetails(List<String> holidayDetails) {
-    this.holidayDetails = holidayDetails;
-  }
-
-  /**
-   * Sets the readiness status of the configuration.
-   *
-   * @param ready {@code true} if the configuration is ready, {@code false}
-   *              otherwise.
-   */
-  private void setReady(boolean ready) {
-    this.ready = ready;
+    return getSnapshot().isReady();
   }
 
 }
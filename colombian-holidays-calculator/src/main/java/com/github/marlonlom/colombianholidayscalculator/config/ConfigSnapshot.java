@@ -0,0 +1,335 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Immutable, pre-parsed holiday configuration: the date pattern, its
+ * thread-safe formatter and the holiday names. <br>
+ * A process-wide snapshot is read from the "config.properties" class path
+ * resource once, on first use, and shared by every calculator. It can be
+ * replaced at runtime with {@link #reload(Path)} or
+ * {@link #reload(Properties)}; the swap is atomic, and calls already holding
+ * the previous snapshot keep using it until they finish.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public final class ConfigSnapshot {
+
+  /**
+   * Name of the class path resource holding the default configuration.
+   */
+  static final String RESOURCE_NAME = "config.properties";
+
+  /**
+   * The date pattern of the shipped "config.properties" resource.
+   */
+  private static final String EMBEDDED_DATE_PATTERN = "dd/MM/yyyy";
+
+  /**
+   * The holiday names of the shipped "config.properties" resource, in
+   * {@code HolidayDates} ordinal order.
+   */
+  private static final String[] EMBEDDED_HOLIDAY_NAMES = {"A\u00f1o Nuevo", "D\u00eda de los Reyes Magos",
+    "D\u00eda de San Jos\u00e9", "Domingo de Ramos", "Jueves Santo", "Viernes Santo",
+    "Domingo de Resurrecci\u00f3n", "D\u00eda del Trabajo", "D\u00eda de la Ascensi\u00f3n", "Corpus Christi",
+    "Sagrado Coraz\u00f3n", "San Pedro y San Pablo", "D\u00eda de la Independencia", "Batalla de Boyac\u00e1",
+    "La asunci\u00f3n de la Virgen", "D\u00eda de la Raza", "Todos los Santos", "Independencia de Cartagena",
+    "D\u00eda de la Inmaculada Concepci\u00f3n", "D\u00eda de Navidad"};
+
+  /**
+   * The date pattern used for formatting holiday dates, or {@code null}.
+   */
+  private final String holidayDatePattern;
+
+  /**
+   * The immutable formatter built from the date pattern, or {@code null}.
+   * Built on first use for the embedded snapshot.
+   */
+  private volatile DateTimeFormatter holidayDateFormatter;
+
+  /**
+   * The unmodifiable holiday names, or {@code null}.
+   */
+  private final List<String> holidayDetails;
+
+  /**
+   * The error that prevented the configuration from being read, or
+   * {@code null} if none occurred.
+   */
+  private final RuntimeException failure;
+
+  /**
+   * Constructs a new {@code ConfigSnapshot} instance.
+   *
+   * @param holidayDatePattern   the date pattern
+   * @param holidayDateFormatter the date formatter
+   * @param holidayDetails       the holiday names
+   * @param failure              the read failure
+   */
+  private ConfigSnapshot(String holidayDatePattern, DateTimeFormatter holidayDateFormatter,
+                         List<String> holidayDetails, RuntimeException failure) {
+    super();
+    this.holidayDatePattern = holidayDatePattern;
+    this.holidayDateFormatter = holidayDateFormatter;
+    this.holidayDetails = holidayDetails;
+    this.failure = failure;
+  }
+
+  /**
+   * Returns the process-wide snapshot, reading the "config.properties" class
+   * path resource on first use.
+   *
+   * @return the current snapshot, which may hold a failure.
+   */
+  public static ConfigSnapshot current() {
+    return Holder.CURRENT.get();
+  }
+
+  /**
+   * Returns the default configuration compiled into the library, equal to the
+   * shipped "config.properties" resource, for startup-sensitive callers (e.g.,
+   * CLI tools and serverless functions). No resource is read and the date
+   * formatter is only built if a response needs it.
+   *
+   * @return the embedded snapshot, always ready.
+   */
+  public static ConfigSnapshot embedded() {
+    return EmbeddedHolder.EMBEDDED;
+  }
+
+  /**
+   * Parses a snapshot from the given properties. Parsing never throws: an
+   * invalid configuration yields a snapshot that is not ready, keeping the
+   * failure cause and the properties read before it.
+   *
+   * @param properties The {@link Properties} object to read configuration from.
+   * @return a new snapshot.
+   */
+  public static ConfigSnapshot of(Properties properties) {
+    String datePattern = null;
+    DateTimeFormatter dateFormatter = null;
+    try {
+      if (properties.isEmpty()) {
+        throw new IllegalArgumentException("Config properties cannot be empty.");
+      }
+      datePattern = properties.getProperty("holiday.date_format");
+      dateFormatter = parseDateFormat(datePattern);
+      return new ConfigSnapshot(datePattern, dateFormatter,
+        parseHolidayNames(properties.getProperty("holiday.details")), null);
+    } catch (RuntimeException runtimeException) {
+      return dateFormatter != null ? new ConfigSnapshot(datePattern, dateFormatter, null, runtimeException)
+        : new ConfigSnapshot(null, null, null, runtimeException);
+    }
+  }
+
+  /**
+   * Builds a snapshot from already parsed values, for callers configuring the
+   * calculator programmatically (e.g., with a localized formatter, or with
+   * holiday names containing semicolons).
+   *
+   * @param holidayDatePattern   The date pattern the formatter was built from.
+   * @param holidayDateFormatter The formatter for holiday dates.
+   * @param holidayDetails       The holiday names, in {@code HolidayDates}
+   *                             ordinal order.
+   * @return a new, ready snapshot.
+   * @throws IllegalArgumentException if any value is missing or empty.
+   */
+  public static ConfigSnapshot of(String holidayDatePattern, DateTimeFormatter holidayDateFormatter,
+                                  List<String> holidayDetails) {
+    if (holidayDatePattern == null || holidayDatePattern.trim().isEmpty() || holidayDateFormatter == null) {
+      throw new IllegalArgumentException("Date format cannot be empty.");
+    }
+    if (holidayDetails == null || holidayDetails.isEmpty()) {
+      throw new IllegalArgumentException("Holiday names cannot be empty.");
+    }
+    return new ConfigSnapshot(holidayDatePattern, holidayDateFormatter,
+      Collections.unmodifiableList(new ArrayList<>(holidayDetails)), null);
+  }
+
+  /**
+   * Replaces the process-wide snapshot with one read from a properties file.
+   *
+   * @param path The path of the properties file.
+   * @return the new snapshot.
+   * @throws IllegalArgumentException if the file cannot be read or holds an
+   *                                  invalid configuration; the current snapshot
+   *                                  is then kept.
+   */
+  public static ConfigSnapshot reload(Path path) {
+    final Properties properties = new Properties();
+    try (InputStream inputStream = Files.newInputStream(path)) {
+      properties.load(inputStream);
+    } catch (IOException exception) {
+      throw new IllegalArgumentException(String.format("(%s)", exception.getMessage()), exception);
+    }
+    return reload(properties);
+  }
+
+  /**
+   * Replaces the process-wide snapshot with one parsed from the given
+   * properties.
+   *
+   * @param properties The {@link Properties} object to read configuration from.
+   * @return the new snapshot.
+   * @throws IllegalArgumentException if the properties hold an invalid
+   *                                  configuration; the current snapshot is then
+   *                                  kept.
+   */
+  public static ConfigSnapshot reload(Properties properties) {
+    final ConfigSnapshot snapshot = of(properties);
+    if (!snapshot.isReady()) {
+      throw new IllegalArgumentException("Invalid config properties.", snapshot.getFailure());
+    }
+    Holder.CURRENT.set(snapshot);
+    return snapshot;
+  }
+
+  /**
+   * Reads the default snapshot from the class path.
+   *
+   * @return the default snapshot, which may hold a failure.
+   */
+  private static ConfigSnapshot load() {
+    final Properties properties = new Properties();
+    try (InputStream inputStream = ConfigSnapshot.class.getClassLoader().getResourceAsStream(RESOURCE_NAME)) {
+      properties.load(inputStream);
+    } catch (Throwable throwable) {
+      final String failureMessage = throwable != null ? String.format("(%s)", throwable.getMessage())
+        : "Failed to read config properties.";
+      return new ConfigSnapshot(null, null, null, new IllegalArgumentException(failureMessage, throwable));
+    }
+    return of(properties);
+  }
+
+  /**
+   * Builds the {@link DateTimeFormatter} of the "holiday.date_format" property.
+   * The pattern is not validated against {@code SimpleDateFormat}, whose
+   * locale and time zone data take longer to load than the rest of the
+   * calculator; {@link ConfigProperties#getHolidayDateFormat()} reports
+   * patterns it does not support when called.
+   *
+   * @param dateFormatString The date pattern.
+   * @return the formatter.
+   * @throws IllegalArgumentException if the date pattern is missing, empty, or
+   *                                  invalid.
+   */
+  private static DateTimeFormatter parseDateFormat(String dateFormatString) {
+    try {
+      if (dateFormatString == null || dateFormatString.trim().isEmpty()) {
+        throw new IllegalArgumentException("Date format text property cannot be empty.");
+      }
+      return DateTimeFormatter.ofPattern(dateFormatString);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid date format: " + dateFormatString, e);
+    }
+  }
+
+  /**
+   * Splits the "holiday.details" property into holiday names. Names are
+   * expected to be semicolon-separated.
+   *
+   * @param holidayDetailsString The holiday names property.
+   * @return the unmodifiable holiday names.
+   * @throws IllegalArgumentException if the property is missing or empty.
+   */
+  private static List<String> parseHolidayNames(String holidayDetailsString) {
+    if (holidayDetailsString == null || holidayDetailsString.trim().isEmpty()) {
+      throw new IllegalArgumentException("Holiday names text property cannot be empty.");
+    }
+    final List<String> holidayDetails = new ArrayList<>();
+    for (String holidayDetail : holidayDetailsString.split(";")) {
+      holidayDetails.add(holidayDetail.trim());
+    }
+    return Collections.unmodifiableList(holidayDetails);
+  }
+
+  /**
+   * Retrieves the error that prevented the configuration from being read.
+   *
+   * @return A {@link RuntimeException}, or {@code null} if the snapshot is
+   * ready.
+   */
+  public RuntimeException getFailure() {
+    return failure;
+  }
+
+  /**
+   * Retrieves the configured holiday date pattern (e.g., {@code "dd/MM/yyyy"}).
+   *
+   * @return The date pattern, or {@code null} if not read.
+   */
+  public String getHolidayDatePattern() {
+    return holidayDatePattern;
+  }
+
+  /**
+   * Retrieves the immutable {@link DateTimeFormatter} for holiday dates.
+   *
+   * @return The formatter, or {@code null} if not read.
+   */
+  public DateTimeFormatter getHolidayDateFormatter() {
+    DateTimeFormatter formatter = holidayDateFormatter;
+    if (formatter == null && failure == null && holidayDatePattern != null) {
+      formatter = DateTimeFormatter.ofPattern(holidayDatePattern);
+      holidayDateFormatter = formatter;
+    }
+    return formatter;
+  }
+
+  /**
+   * Retrieves the unmodifiable list of configured holiday names.
+   *
+   * @return The holiday names, or {@code null} if not read.
+   */
+  public List<String> getHolidayDetails() {
+    return holidayDetails;
+  }
+
+  /**
+   * Checks whether the configuration was read successfully.
+   *
+   * @return {@code true} if the snapshot is ready for use, {@code false}
+   * otherwise.
+   */
+  public boolean isReady() {
+    return failure == null;
+  }
+
+  /**
+   * Lazy holder of the process-wide snapshot.
+   */
+  private static final class Holder {
+
+    /**
+     * The current snapshot, read when first accessed.
+     */
+    private static final AtomicReference<ConfigSnapshot> CURRENT = new AtomicReference<>(load());
+  }
+
+  /**
+   * Lazy holder of the embedded snapshot.
+   */
+  private static final class EmbeddedHolder {
+
+    /**
+     * The embedded snapshot, built when first accessed.
+     */
+    private static final ConfigSnapshot EMBEDDED = new ConfigSnapshot(EMBEDDED_DATE_PATTERN, null,
+      Collections.unmodifiableList(Arrays.asList(EMBEDDED_HOLIDAY_NAMES)), null);
+  }
+}
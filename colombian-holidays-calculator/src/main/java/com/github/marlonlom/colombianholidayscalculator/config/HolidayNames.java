@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.config;
+
+import com.github.marlonlom.colombianholidayscalculator.domain.HolidayDates;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holiday names of a locale, read from the "holiday-names" resource bundles.
+ * <br>
+ * Bundle entries are keyed by {@link HolidayDates#getId() holiday identifier},
+ * so they do not depend on the order of the holidays. Each bundle is read
+ * once into an array of interned names indexed by {@link HolidayDates}
+ * ordinal, and kept for the life of the process, keyed by the locale of the
+ * bundle, so arbitrary requested locales do not grow the cache; lookups for a
+ * bundle locale neither parse nor allocate. Locales without a bundle of their
+ * own get the default, Spanish names. Instances are immutable and
+ * thread-safe.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public final class HolidayNames {
+
+  /**
+   * Base name of the holiday name bundles.
+   */
+  static final String BUNDLE_NAME = "holiday-names";
+
+  /**
+   * Bundle lookup that does not fall back to the default locale of the JVM.
+   */
+  private static final ResourceBundle.Control CONTROL = ResourceBundle.Control
+    .getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+  /**
+   * Resolved names, keyed by bundle locale.
+   */
+  private static final ConcurrentMap<Locale, HolidayNames> BY_LOCALE = new ConcurrentHashMap<>();
+
+  /**
+   * The locale of the bundle the names were read from.
+   */
+  private final Locale locale;
+
+  /**
+   * The interned names, indexed by {@link HolidayDates} ordinal.
+   */
+  private final String[] names;
+
+  /**
+   * Unmodifiable list view of the names.
+   */
+  private final List<String> nameList;
+
+  /**
+   * Constructs a new {@code HolidayNames} instance.
+   *
+   * @param locale The locale of the bundle.
+   * @param names  The interned names, indexed by ordinal.
+   */
+  private HolidayNames(Locale locale, String[] names) {
+    super();
+    this.locale = locale;
+    this.names = names;
+    this.nameList = Collections.unmodifiableList(Arrays.asList(names));
+  }
+
+  /**
+   * Returns the holiday names of a locale, reading its bundle on first use.
+   *
+   * @param locale The requested locale (e.g., {@link Locale#ENGLISH}).
+   * @return The holiday names of the closest available bundle.
+   * @throws IllegalArgumentException if the bundle misses a holiday.
+   */
+  public static HolidayNames of(Locale locale) {
+    final HolidayNames holidayNames = BY_LOCALE.get(locale);
+    if (holidayNames != null) {
+      return holidayNames;
+    }
+    final ResourceBundle bundle = ResourceBundle.getBundle(BUNDLE_NAME, locale, CONTROL);
+    return BY_LOCALE.computeIfAbsent(bundle.getLocale(), bundleLocale -> load(bundle));
+  }
+
+  /**
+   * Returns the number of bundles read so far.
+   *
+   * @return the number of cached bundle locales.
+   */
+  static int cachedBundleCount() {
+    return BY_LOCALE.size();
+  }
+
+  /**
+   * Reads and interns the names of a bundle.
+   *
+   * @param bundle The resolved bundle.
+   * @return The resolved names.
+   * @throws IllegalArgumentException if the bundle misses a holiday.
+   */
+  private static HolidayNames load(ResourceBundle bundle) {
+    final String[] names = new String[HolidayDates.count()];
+    for (int ordinal = 0; ordinal < names.length; ordinal++) {
+      final String id = HolidayDates.ofOrdinal(ordinal).getId();
+      try {
+        names[ordinal] = bundle.getString(id).trim().intern();
+      } catch (MissingResourceException exception) {
+        throw new IllegalArgumentException("Missing holiday name: " + id, exception);
+      }
+    }
+    return new HolidayNames(bundle.getLocale(), names);
+  }
+
+  /**
+   * Returns the names as a list indexed by {@link HolidayDates} ordinal, in the
+   * layout of {@link ConfigSnapshot#getHolidayDetails()}.
+   *
+   * @return An unmodifiable list, shared by every caller.
+   */
+  public List<String> asList() {
+    return nameList;
+  }
+
+  /**
+   * Returns the locale of the bundle the names were read from, which is
+   * {@link Locale#ROOT} for the default names.
+   *
+   * @return the bundle locale.
+   */
+  public Locale getLocale() {
+    return locale;
+  }
+
+  /**
+   * Returns the name of a holiday.
+   *
+   * @param holidayDate The holiday.
+   * @return The interned holiday name.
+   */
+  public String getName(HolidayDates holidayDate) {
+    return names[holidayDate.ordinal()];
+  }
+}
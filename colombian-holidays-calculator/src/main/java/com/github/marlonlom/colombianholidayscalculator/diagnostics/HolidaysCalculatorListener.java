@@ -0,0 +1,32 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.diagnostics;
+
+import com.github.marlonlom.colombianholidayscalculator.HolidaysCalculatorResponse;
+
+/**
+ * Defines a contract for objects notified of every holiday calculation, for
+ * logging or metrics purposes. <br>
+ * Listeners are called on the thread performing the calculation, so they must
+ * be thread-safe and return quickly. When no listener is installed, the
+ * calculator does not even read the clock.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+@FunctionalInterface
+public interface HolidaysCalculatorListener {
+
+  /**
+   * Notifies that a holiday calculation has finished, either successfully or
+   * with a failure.
+   *
+   * @param year         The requested year, as given by the caller.
+   * @param response     The response returned to the caller; its failure is set
+   *                     if the calculation failed.
+   * @param elapsedNanos The time spent in the calculation, in nanoseconds.
+   */
+  void onHolidaysCalculated(Integer year, HolidaysCalculatorResponse response, long elapsedNanos);
+}
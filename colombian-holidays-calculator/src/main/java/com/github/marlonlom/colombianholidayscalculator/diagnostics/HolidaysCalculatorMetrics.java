@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.diagnostics;
+
+import com.github.marlonlom.colombianholidayscalculator.HolidaysCalculatorResponse;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Built-in {@link HolidaysCalculatorListener} counting calls and failures, and
+ * recording a latency histogram. <br>
+ * The histogram uses power-of-two buckets: bucket {@code n} counts the calls
+ * that took less than {@code 2^n} nanoseconds, and at least {@code 2^(n-1)}.
+ * All counters are updated without locking.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public final class HolidaysCalculatorMetrics implements HolidaysCalculatorListener {
+
+  /**
+   * Number of latency histogram buckets, one per bit of a {@code long}.
+   */
+  public static final int BUCKET_COUNT = Long.SIZE;
+
+  /**
+   * Number of finished calculations.
+   */
+  private final LongAdder callCount;
+
+  /**
+   * Number of calculations that finished with a failure.
+   */
+  private final LongAdder failureCount;
+
+  /**
+   * Sum of the latencies of every calculation, in nanoseconds.
+   */
+  private final LongAdder totalNanos;
+
+  /**
+   * Latency histogram, with power-of-two buckets.
+   */
+  private final AtomicLongArray latencyBuckets;
+
+  /**
+   * Constructs a new, empty {@code HolidaysCalculatorMetrics} instance.
+   */
+  public HolidaysCalculatorMetrics() {
+    super();
+    this.callCount = new LongAdder();
+    this.failureCount = new LongAdder();
+    this.totalNanos = new LongAdder();
+    this.latencyBuckets = new AtomicLongArray(BUCKET_COUNT);
+  }
+
+  /**
+   * Returns the number of finished calculations.
+   *
+   * @return the call count.
+   */
+  public long getCallCount() {
+    return callCount.sum();
+  }
+
+  /**
+   * Returns the number of calculations that finished with a failure.
+   *
+   * @return the failure count.
+   */
+  public long getFailureCount() {
+    return failureCount.sum();
+  }
+
+  /**
+   * Returns the number of calls recorded in a latency histogram bucket.
+   *
+   * @param bucket The bucket, from {@code 0} to {@code BUCKET_COUNT - 1}.
+   * @return the number of calls in the bucket.
+   */
+  public long getLatencyBucketCount(int bucket) {
+    return latencyBuckets.get(bucket);
+  }
+
+  /**
+   * Returns an upper bound of the latency below which the given fraction of the
+   * calls fall, with the precision of the power-of-two buckets.
+   *
+   * @param fraction The fraction of calls, from {@code 0.0} to {@code 1.0}
+   *                 (e.g., {@code 0.99} for the 99th percentile).
+   * @return the latency upper bound in nanoseconds, or {@code 0} if no call was
+   * recorded.
+   */
+  public long getLatencyPercentileNanos(double fraction) {
+    long total = 0L;
+    final long[] counts = new long[BUCKET_COUNT];
+    for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+      counts[bucket] = latencyBuckets.get(bucket);
+      total += counts[bucket];
+    }
+    final long threshold = (long) Math.ceil(total * fraction);
+    long seen = 0L;
+    for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+      seen += counts[bucket];
+      if (seen > 0L && seen >= threshold) {
+        return bucket == BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1L << bucket;
+      }
+    }
+    return 0L;
+  }
+
+  /**
+   * Returns the sum of the latencies of every calculation.
+   *
+   * @return the total latency, in nanoseconds.
+   */
+  public long getTotalNanos() {
+    return totalNanos.sum();
+  }
+
+  @Override
+  public void onHolidaysCalculated(Integer year, HolidaysCalculatorResponse response, long elapsedNanos) {
+    callCount.increment();
+    if (response.getFailure() != null) {
+      failureCount.increment();
+    }
+    final long nanos = Math.max(0L, elapsedNanos);
+    totalNanos.add(nanos);
+    latencyBuckets.incrementAndGet(Math.min(BUCKET_COUNT - 1, Long.SIZE - Long.numberOfLeadingZeros(nanos)));
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.domain;
+
+/**
+ * Label of a calendar day, as stored in the per-year day type tables of
+ * {@link HolidayYear}, one byte per day holding the ordinal of the label.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public enum DayType {
+
+  /**
+   * A business day: neither a weekend day nor a holiday.
+   */
+  WORKDAY,
+
+  /**
+   * A Saturday or Sunday that is not a holiday.
+   */
+  WEEKEND,
+
+  /**
+   * A colombian holiday, on any day of the week.
+   */
+  HOLIDAY,
+
+  /**
+   * A Saturday or Sunday that is not a holiday, but is part of a long weekend
+   * ("puente festivo") created by a holiday always observed on a Monday (see
+   * {@link HolidayRule#isObservedOnMonday()}).
+   */
+  BRIDGE;
+
+  /**
+   * The labels, indexed by ordinal.
+   */
+  private static final DayType[] VALUES = values();
+
+  /**
+   * Returns the label with the given ordinal, without copying
+   * {@link #values()}.
+   *
+   * @param ordinal The ordinal of the label.
+   * @return the day type.
+   */
+  static DayType ofOrdinal(int ordinal) {
+    return VALUES[ordinal];
+  }
+
+  /**
+   * Checks whether days of this type are free, that is, not business days.
+   *
+   * @return {@code true} for every type but {@link #WORKDAY}.
+   */
+  public boolean isDayOff() {
+    return this != WORKDAY;
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.domain;
+
+import java.time.LocalDate;
+
+/**
+ * A single holiday occurrence: the date on which a {@link HolidayRule} falls in
+ * a given year, such as a {@link HolidayDates} constant or a custom rule. <br>
+ * Instances are immutable; the date is held as an epoch day and only converted
+ * to a {@link LocalDate} when requested.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public final class Holiday {
+
+  /**
+   * The holiday date, as a number of days since 1970-01-01.
+   */
+  private final int epochDay;
+
+  /**
+   * The built-in holiday this occurrence comes from, or {@code null} for
+   * custom rules.
+   */
+  private final HolidayDates holidayDate;
+
+  /**
+   * The rule this occurrence comes from.
+   */
+  private final HolidayRule rule;
+
+  /**
+   * Constructs a new {@code Holiday} instance.
+   *
+   * @param epochDay    The holiday date, as a number of days since 1970-01-01.
+   * @param holidayDate The holiday rule this occurrence comes from.
+   */
+  public Holiday(int epochDay, HolidayDates holidayDate) {
+    super();
+    this.epochDay = epochDay;
+    this.holidayDate = holidayDate;
+    this.rule = holidayDate.getRule();
+  }
+
+  /**
+   * Constructs a new {@code Holiday} instance from a rule, which may be a
+   * custom one.
+   *
+   * @param epochDay The holiday date, as a number of days since 1970-01-01.
+   * @param rule     The rule this occurrence comes from.
+   */
+  public Holiday(int epochDay, HolidayRule rule) {
+    super();
+    this.epochDay = epochDay;
+    this.holidayDate = HolidayDates.findById(rule.getId()).orElse(null);
+    this.rule = rule;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof Holiday)) {
+      return false;
+    }
+    final Holiday holiday = (Holiday) other;
+    return epochDay == holiday.epochDay && rule.getId().equals(holiday.rule.getId());
+  }
+
+  /**
+   * Returns the holiday date.
+   *
+   * @return the date.
+   */
+  public LocalDate getDate() {
+    return LocalDate.ofEpochDay(epochDay);
+  }
+
+  /**
+   * Returns the holiday date, as a number of days since 1970-01-01.
+   *
+   * @return the epoch day.
+   */
+  public int getEpochDay() {
+    return epochDay;
+  }
+
+  /**
+   * Returns the built-in holiday this occurrence comes from.
+   *
+   * @return the holiday date constant, or {@code null} for custom rules.
+   */
+  public HolidayDates getHolidayDate() {
+    return holidayDate;
+  }
+
+  /**
+   * Returns the identifier of the rule this occurrence comes from.
+   *
+   * @return the rule identifier (e.g., {@code "HD01"}).
+   */
+  public String getId() {
+    return rule.getId();
+  }
+
+  /**
+   * Returns the rule this occurrence comes from.
+   *
+   * @return the holiday rule.
+   */
+  public HolidayRule getRule() {
+    return rule;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * epochDay + rule.getId().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return getDate() + " " + rule.getId();
+  }
+}
@@ -4,16 +4,26 @@
  */
 package com.github.marlonlom.colombianholidayscalculator.domain;
 
+import com.github.marlonlom.colombianholidayscalculator.util.EpochDays;
 import com.github.marlonlom.colombianholidayscalculator.util.LocalDateUtil;
 import org.joda.time.DateTimeConstants;
+import org.joda.time.LocalDate;
 
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Represents a collection of holiday dates. This enum is typically used to
- * define specific dates that are considered holidays.
+ * define specific dates that are considered holidays. <br>
+ * Each holiday is defined by a {@link HolidayRule}: either a fixed date, a date
+ * moved to its nearest Monday, or a constant number of days away from Easter
+ * Sunday. The rules of every constant make up
+ * {@link HolidayRuleSet#builtIn()}. Single holidays are resolved within
+ * a {@link HolidayYearContext}, so Easter is calculated once per year, and as
+ * epoch days, so no date object is allocated on the way.
  *
  * @author marlonlom
  * @version 2.0.0
@@ -23,199 +33,162 @@ public enum HolidayDates {
   /**
    * Holiday date No. 01.
    */
-  HD01(new HolidayDateFindable() {
-    @Override
-    public Date finDate(LocalDateUtil dateUtil, int year) {
-      return dateUtil.prepareDate(year, 1, 1);
-    }
-  }),
+  HD01(HolidayRule.Kind.FIXED, 1, 1),
   /**
    * Holiday date No. 02.
    */
-  HD02(new HolidayDateFindable() {
-    @Override
-    public Date finDate(LocalDateUtil dateUtil, int year) {
-      return dateUtil.getNearestDayOfWeek(year, 1, 6, DateTimeConstants.MONDAY).toDate();
-    }
-  }),
+  HD02(HolidayRule.Kind.MOVED_TO_MONDAY, 1, 6),
   /**
    * Holiday date No. 03.
    */
-  HD03(new HolidayDateFindable() {
-    @Override
-    public Date finDate(LocalDateUtil dateUtil, int year) {
-      return dateUtil.getNearestDayOfWeek(year, 3, 19, DateTimeConstants.MONDAY).toDate();
-    }
-  }),
+  HD03(HolidayRule.Kind.MOVED_TO_MONDAY, 3, 19),
   /**
    * Holiday date No. 04.
    */
-  HD04(new HolidayDateFindable() {
-    @Override
-    public Date finDate(LocalDateUtil dateUtil, int year) {
-      return dateUtil.getNearestDayOfWeek(dateUtil.calculateEasterDay(year), DateTimeConstants.SUNDAY)
-        .minusWeeks(1).toDate();
-    }
-  }),
+  HD04(-7),
   /**
    * Holiday date No. 05.
    */
-  HD05(new HolidayDateFindable() {
-    @Override
-    public Date finDate(LocalDateUtil dateUtil, int year) {
-      return dateUtil.getNearestDayOfWeek(dateUtil.calculateEasterDay(year), DateTimeConstants.THURSDAY).toDate();
-    }
-  }),
+  HD05(-3),
   /**
    * Holiday date No. 06.
    */
-  HD06(new HolidayDateFindable() {
-    @Override
-    public Date finDate(LocalDateUtil dateUtil, int year) {
-      return dateUtil.getNearestDayOfWeek(dateUtil.calculateEasterDay(year), DateTimeConstants.FRIDAY).toDate();
-    }
-  }),
+  HD06(-2),
   /**
    * Holiday date No. 07.
    */
-  HD07(new HolidayDateFindable() {
-    @Override
-    public Date finDate(LocalDateUtil dateUtil, int year) {
-      return dateUtil.calculateEasterDay(year).toDate();
-    }
-  }),
+  HD07(0),
   /**
    * Holiday date No. 08.
    */
-  HD08(new HolidayDateFindable() {
-    @Override
-    public Date finDate(LocalDateUtil dateUtil, int year) {
-      return dateUtil.prepareDate(year, 5, 1);
-    }
-  }),
+  HD08(HolidayRule.Kind.FIXED, 5, 1),
   /**
    * Holiday date No. 09.
    */
-  HD09(new HolidayDateFindable() {
-    @Override
-    public Date finDate(LocalDateUtil dateUtil, int year) {
-      return dateUtil.getNearestDayOfWeek(dateUtil.calculateEasterDay(year), DateTimeConstants.MONDAY)
-        .plusDays(42).toDate();
-    }
-  }),
+  HD09(43),
   /**
    * Holiday date No. 10.
    */
-  HD10(new HolidayDateFindable() {
-    @Override
-    public Date finDate(LocalDateUtil dateUtil, int year) {
-      return dateUtil.getNearestDayOfWeek(dateUtil.calculateEasterDay(year), DateTimeConstants.MONDAY)
-        .plusDays(63).toDate();
-    }
-  }),
+  HD10(64),
   /**
    * Holiday date No. 11.
    */
-  HD11(new HolidayDateFindable() {
-    @Override
-    public Date finDate(LocalDateUtil dateUtil, int year) {
-      return dateUtil.getNearestDayOfWeek(dateUtil.calculateEasterDay(year), DateTimeConstants.MONDAY)
-        .plusDays(70).toDate();
-    }
-  }),
+  HD11(71),
   /**
    * Holiday date No. 12.
    */
-  HD12(new HolidayDateFindable() {
-    @Override
-    public Date finDate(LocalDateUtil dateUtil, int year) {
-      return dateUtil.getNearestDayOfWeek(year, 6, 29, DateTimeConstants.MONDAY).toDate();
-    }
-  }),
+  HD12(HolidayRule.Kind.MOVED_TO_MONDAY, 6, 29),
   /**
    * Holiday date No. 13.
    */
-  HD13(new HolidayDateFindable() {
-    @Override
-    public Date finDate(LocalDateUtil dateUtil, int year) {
-      return dateUtil.prepareDate(year, 7, 20);
-    }
-  }),
+  HD13(HolidayRule.Kind.FIXED, 7, 20),
   /**
    * Holiday date No. 14.
    */
-  HD14(new HolidayDateFindable() {
-    @Override
-    public Date finDate(LocalDateUtil dateUtil, int year) {
-      return dateUtil.prepareDate(year, 8, 7);
-    }
-  }),
+  HD14(HolidayRule.Kind.FIXED, 8, 7),
   /**
    * Holiday date No. 15.
    */
-  HD15(new HolidayDateFindable() {
-    @Override
-    public Date finDate(LocalDateUtil dateUtil, int year) {
-      return dateUtil.getNearestDayOfWeek(year, 8, 15, DateTimeConstants.MONDAY).toDate();
-    }
-  }),
+  HD15(HolidayRule.Kind.MOVED_TO_MONDAY, 8, 15),
   /**
    * Holiday date No. 16.
    */
-  HD16(new HolidayDateFindable() {
-    @Override
-    public Date finDate(LocalDateUtil dateUtil, int year) {
-      return dateUtil.getNearestDayOfWeek(year, 10, 12, DateTimeConstants.MONDAY).toDate();
-    }
-  }),
+  HD16(HolidayRule.Kind.MOVED_TO_MONDAY, 10, 12),
   /**
    * Holiday date No. 17.
    */
-  HD17(new HolidayDateFindable() {
-    @Override
-    public Date finDate(LocalDateUtil dateUtil, int year) {
-      return dateUtil.getNearestDayOfWeek(year, 11, 1, DateTimeConstants.MONDAY).toDate();
-    }
-  }),
+  HD17(HolidayRule.Kind.MOVED_TO_MONDAY, 11, 1),
   /**
    * Holiday date No. 18.
    */
-  HD18(new HolidayDateFindable() {
-    @Override
-    public Date finDate(LocalDateUtil dateUtil, int year) {
-      return dateUtil.getNearestDayOfWeek(year, 11, 11, DateTimeConstants.MONDAY).toDate();
-    }
-  }),
+  HD18(HolidayRule.Kind.MOVED_TO_MONDAY, 11, 11),
   /**
    * Holiday date No. 19.
    */
-  HD19(new HolidayDateFindable() {
-    @Override
-    public Date finDate(LocalDateUtil dateUtil, int year) {
-      return dateUtil.prepareDate(year, 12, 8);
-    }
-  }),
+  HD19(HolidayRule.Kind.FIXED, 12, 8),
   /**
    * Holiday date No. 20.
    */
-  HD20(new HolidayDateFindable() {
-    @Override
-    public Date finDate(LocalDateUtil dateUtil, int year) {
-      return dateUtil.prepareDate(year, 12, 25);
+  HD20(HolidayRule.Kind.FIXED, 12, 25);
+
+  /**
+   * Every constant, indexed by ordinal. Never handed out, so it stays
+   * unmodified.
+   */
+  private static final HolidayDates[] VALUES = values();
+
+  /**
+   * Every constant, keyed by its identifier.
+   */
+  private static final Map<String, HolidayDates> BY_ID;
+
+  /**
+   * Shared utility used to resolve single holidays. The utility is stateless.
+   */
+  private static final LocalDateUtil DATE_UTIL = new LocalDateUtil();
+
+  static {
+    final Map<String, HolidayDates> byId = new HashMap<>(VALUES.length * 2);
+    for (HolidayDates holidayDate : VALUES) {
+      byId.put(holidayDate.getId(), holidayDate);
     }
-  });
+    BY_ID = Collections.unmodifiableMap(byId);
+  }
+
+  /**
+   * Returns the number of {@code HolidayDates} constants, that is, the number of
+   * holidays of every year. Unlike {@code values().length}, no array is copied.
+   *
+   * @return the number of constants.
+   */
+  public static int count() {
+    return VALUES.length;
+  }
 
   /**
-   * Retrieves a {@code HolidayDates} enum constant by its ordinal position.
+   * Retrieves a {@code HolidayDates} enum constant by its identifier, in constant
+   * time.
+   *
+   * @param id The identifier of the desired constant (e.g., {@code "HD07"}).
+   * @return An {@link Optional} containing the {@code HolidayDates} constant if
+   * found, or an empty {@code Optional} otherwise.
+   * @see #getId()
+   */
+  public static Optional<HolidayDates> findById(String id) {
+    return Optional.ofNullable(id != null ? BY_ID.get(id) : null);
+  }
+
+  /**
+   * Retrieves a {@code HolidayDates} enum constant by its ordinal position, in
+   * constant time.
    *
    * @param pos The ordinal position of the desired {@code HolidayDates} constant.
    * @return An {@link Optional} containing the {@code HolidayDates} constant if
    * found, or an empty {@code Optional} if the position is out of bounds.
    */
   public static Optional<HolidayDates> indexOf(int pos) {
-    return Arrays.asList(HolidayDates.values()).stream().filter(hd -> hd.ordinal() == pos).findFirst();
+    return pos >= 0 && pos < VALUES.length ? Optional.of(VALUES[pos]) : Optional.empty();
   }
 
+  /**
+   * Retrieves a {@code HolidayDates} enum constant by its ordinal position, in
+   * constant time and without wrapping it.
+   *
+   * @param ordinal The ordinal position, from {@code 0} to
+   *                {@code count() - 1}.
+   * @return The {@code HolidayDates} constant.
+   * @throws ArrayIndexOutOfBoundsException if the position is out of bounds.
+   * @see #indexOf(int)
+   */
+  public static HolidayDates ofOrdinal(int ordinal) {
+    return VALUES[ordinal];
+  }
+
+  /**
+   * The rule defining the holiday, identified by the constant name.
+   */
+  private final HolidayRule rule;
+
   /**
    * The strategy used to find the specific date of a holiday. This field is
    * immutable and must be initialized upon object creation.
@@ -223,12 +196,26 @@ public enum HolidayDates {
   private final HolidayDateFindable findable;
 
   /**
-   * Instantiates a new holiday dates.
+   * Instantiates a new holiday dates, for a fixed or moved holiday.
+   *
+   * @param kind        the kind of rule, either fixed or moved to Monday
+   * @param monthOfYear the month of the holiday
+   * @param dayOfMonth  the day of the month of the holiday
+   */
+  HolidayDates(HolidayRule.Kind kind, int monthOfYear, int dayOfMonth) {
+    this.rule = kind == HolidayRule.Kind.FIXED ? HolidayRule.fixed(name(), monthOfYear, dayOfMonth)
+      : HolidayRule.movedToMonday(name(), monthOfYear, dayOfMonth);
+    this.findable = new RuleFindable(this);
+  }
+
+  /**
+   * Instantiates a new holiday dates, for an Easter based holiday.
    *
-   * @param holidayDateFindable the holiday date findable
+   * @param easterOffset the number of days from Easter Sunday
    */
-  HolidayDates(HolidayDateFindable holidayDateFindable) {
-    findable = holidayDateFindable;
+  HolidayDates(int easterOffset) {
+    this.rule = HolidayRule.easterOffset(name(), easterOffset);
+    this.findable = new RuleFindable(this);
   }
 
   /**
@@ -241,4 +228,94 @@ public enum HolidayDates {
     return findable;
   }
 
+  /**
+   * Calculates the date of this single holiday for a year, without resolving
+   * the rest of the year. Years covered by the {@link StaticHolidayTable} are
+   * read from it.
+   *
+   * @param year The calendar year.
+   * @return The holiday date, as a number of days since 1970-01-01.
+   */
+  public int getEpochDay(int year) {
+    if (StaticHolidayTable.covers(year)) {
+      return StaticHolidayTable.getEpochDay(year, this);
+    }
+    return resolveEpochDay(new HolidayYearContext(DATE_UTIL, year));
+  }
+
+  /**
+   * Returns the declarative rule defining this holiday.
+   *
+   * @return the rule, identified by {@link #getId()}.
+   */
+  public HolidayRule getRule() {
+    return rule;
+  }
+
+  /**
+   * Returns the stable identifier of this holiday, which is the constant name
+   * (e.g., {@code "HD07"}).
+   *
+   * @return the identifier.
+   */
+  public String getId() {
+    return name();
+  }
+
+  /**
+   * Resolves the date of this holiday within a year context. This method
+   * converts the result of {@link #resolveEpochDay(HolidayYearContext)}.
+   *
+   * @param context The per-year context.
+   * @return A {@link LocalDate} representing the holiday date.
+   */
+  public LocalDate resolve(HolidayYearContext context) {
+    final int epochDay = resolveEpochDay(context);
+    return new LocalDate(EpochDays.year(epochDay), EpochDays.monthOfYear(epochDay), EpochDays.dayOfMonth(epochDay));
+  }
+
+  /**
+   * Resolves the date of this holiday within a year context, as an epoch day.
+   * Easter based holidays reuse the Easter Sunday of the context.
+   *
+   * @param context The per-year context.
+   * @return The holiday date, as a number of days since 1970-01-01.
+   */
+  public int resolveEpochDay(HolidayYearContext context) {
+    switch (rule.getKind()) {
+      case EASTER_OFFSET:
+        return context.getEasterEpochDay() + rule.getEasterOffset();
+      case MOVED_TO_MONDAY:
+        return context.getDateUtil().getNearestDayOfWeekEpochDay(context.getYear(), rule.getMonthOfYear(),
+          rule.getDayOfMonth(), DateTimeConstants.MONDAY);
+      default:
+        return EpochDays.of(context.getYear(), rule.getMonthOfYear(), rule.getDayOfMonth());
+    }
+  }
+
+  /**
+   * Finds the date of a holiday by resolving its rule. A named class rather
+   * than a lambda, so initializing the enum spins no classes at runtime.
+   */
+  private static final class RuleFindable implements HolidayDateFindable {
+
+    /**
+     * The holiday whose date is found.
+     */
+    private final HolidayDates holidayDate;
+
+    /**
+     * Constructs a new {@code RuleFindable} instance.
+     *
+     * @param holidayDate the holiday whose date is found
+     */
+    private RuleFindable(HolidayDates holidayDate) {
+      this.holidayDate = holidayDate;
+    }
+
+    @Override
+    public Date finDate(LocalDateUtil dateUtil, int year) {
+      return dateUtil.prepareDate(holidayDate.resolveEpochDay(new HolidayYearContext(dateUtil, year)));
+    }
+  }
 }
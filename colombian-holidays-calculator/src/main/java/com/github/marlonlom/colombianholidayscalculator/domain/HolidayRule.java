@@ -0,0 +1,296 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.domain;
+
+/**
+ * Declarative holiday rule: a fixed date, a date moved to its nearest Monday
+ * (Emiliani law), or a constant number of days away from Easter Sunday,
+ * optionally in force only for a range of years. <br>
+ * Rules are plain data; they are evaluated by {@link HolidayRuleSet}, which
+ * compiles them into a flat plan. The built-in colombian holidays are the
+ * rules of the {@link HolidayDates} constants, and custom rules, such as
+ * company days off or one-off decree holidays, are created with the factory
+ * methods of this class. Instances are immutable.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public final class HolidayRule {
+
+  /**
+   * Number of days of each month that exist every year.
+   */
+  private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+  /**
+   * The rule identifier.
+   */
+  private final String id;
+
+  /**
+   * The kind of rule.
+   */
+  private final Kind kind;
+
+  /**
+   * The month of the base date, from 1 to 12, or {@code 0} for Easter rules.
+   */
+  private final int monthOfYear;
+
+  /**
+   * The day of the month of the base date, or {@code 0} for Easter rules.
+   */
+  private final int dayOfMonth;
+
+  /**
+   * Number of days after Easter Sunday, negative for days before it.
+   */
+  private final int easterOffset;
+
+  /**
+   * The first year the rule is in force.
+   */
+  private final int firstYear;
+
+  /**
+   * The last year the rule is in force, inclusive.
+   */
+  private final int lastYear;
+
+  /**
+   * Constructs a new {@code HolidayRule} instance.
+   *
+   * @param id           The rule identifier.
+   * @param kind         The kind of rule.
+   * @param monthOfYear  The month of the base date.
+   * @param dayOfMonth   The day of the month of the base date.
+   * @param easterOffset The number of days after Easter Sunday.
+   * @param firstYear    The first year the rule is in force.
+   * @param lastYear     The last year the rule is in force.
+   */
+  private HolidayRule(String id, Kind kind, int monthOfYear, int dayOfMonth, int easterOffset, int firstYear,
+                      int lastYear) {
+    super();
+    this.id = id;
+    this.kind = kind;
+    this.monthOfYear = monthOfYear;
+    this.dayOfMonth = dayOfMonth;
+    this.easterOffset = easterOffset;
+    this.firstYear = firstYear;
+    this.lastYear = lastYear;
+  }
+
+  /**
+   * Creates a rule for a number of days away from Easter Sunday (e.g., {@code -2}
+   * for Good Friday).
+   *
+   * @param id           The rule identifier.
+   * @param easterOffset The number of days after Easter Sunday, from -60 to 90,
+   *                     so the holiday stays within the year.
+   * @return a new rule, in force every year.
+   * @throws IllegalArgumentException if the identifier is empty or the offset is
+   *                                  out of range.
+   */
+  public static HolidayRule easterOffset(String id, int easterOffset) {
+    if (easterOffset < -60 || easterOffset > 90) {
+      throw new IllegalArgumentException("Easter offset out of range: " + easterOffset);
+    }
+    return new HolidayRule(requireId(id), Kind.EASTER_OFFSET, 0, 0, easterOffset, Integer.MIN_VALUE,
+      Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a rule for a date falling on the same day every year.
+   *
+   * @param id          The rule identifier.
+   * @param monthOfYear The month, from 1 to 12.
+   * @param dayOfMonth  The day of the month, which must exist every year.
+   * @return a new rule, in force every year.
+   * @throws IllegalArgumentException if the identifier is empty or the date is
+   *                                  invalid.
+   */
+  public static HolidayRule fixed(String id, int monthOfYear, int dayOfMonth) {
+    return new HolidayRule(requireId(id), Kind.FIXED, monthOfYear, requireDate(monthOfYear, dayOfMonth), 0,
+      Integer.MIN_VALUE, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a rule for a date moved to its nearest Monday, as set by the
+   * Emiliani law. The nearest Monday may fall in the previous week.
+   *
+   * @param id          The rule identifier.
+   * @param monthOfYear The month, from 1 to 12.
+   * @param dayOfMonth  The day of the month, from January 4 to December 28, so
+   *                    the holiday stays within the year.
+   * @return a new rule, in force every year.
+   * @throws IllegalArgumentException if the identifier is empty or the date is
+   *                                  invalid.
+   */
+  public static HolidayRule movedToMonday(String id, int monthOfYear, int dayOfMonth) {
+    requireDate(monthOfYear, dayOfMonth);
+    if (monthOfYear == 1 && dayOfMonth < 4 || monthOfYear == 12 && dayOfMonth > 28) {
+      throw new IllegalArgumentException("Holiday date too close to the year end: " + monthOfYear + "/"
+        + dayOfMonth);
+    }
+    return new HolidayRule(requireId(id), Kind.MOVED_TO_MONDAY, monthOfYear, dayOfMonth, 0, Integer.MIN_VALUE,
+      Integer.MAX_VALUE);
+  }
+
+  /**
+   * Validates a date that must exist every year.
+   *
+   * @param monthOfYear The month.
+   * @param dayOfMonth  The day of the month.
+   * @return the day of the month.
+   * @throws IllegalArgumentException if the date does not exist every year.
+   */
+  private static int requireDate(int monthOfYear, int dayOfMonth) {
+    if (monthOfYear < 1 || monthOfYear > 12 || dayOfMonth < 1 || dayOfMonth > DAYS_IN_MONTH[monthOfYear - 1]) {
+      throw new IllegalArgumentException("Invalid holiday date: " + monthOfYear + "/" + dayOfMonth);
+    }
+    return dayOfMonth;
+  }
+
+  /**
+   * Validates a rule identifier.
+   *
+   * @param id The rule identifier.
+   * @return the identifier.
+   * @throws IllegalArgumentException if the identifier is missing or empty.
+   */
+  private static String requireId(String id) {
+    if (id == null || id.trim().isEmpty()) {
+      throw new IllegalArgumentException("Holiday rule id cannot be empty.");
+    }
+    return id;
+  }
+
+  /**
+   * Checks whether the rule is in force in a year.
+   *
+   * @param year The calendar year.
+   * @return {@code true} if the rule yields a holiday in the year.
+   */
+  public boolean appliesTo(int year) {
+    return year >= firstYear && year <= lastYear;
+  }
+
+  /**
+   * Returns the day of the month of the base date.
+   *
+   * @return the day of the month, or {@code 0} for Easter rules.
+   */
+  public int getDayOfMonth() {
+    return dayOfMonth;
+  }
+
+  /**
+   * Returns the number of days after Easter Sunday.
+   *
+   * @return the offset, or {@code 0} for date rules.
+   */
+  public int getEasterOffset() {
+    return easterOffset;
+  }
+
+  /**
+   * Returns the first year the rule is in force.
+   *
+   * @return the first year, or {@link Integer#MIN_VALUE} if unbounded.
+   */
+  public int getFirstYear() {
+    return firstYear;
+  }
+
+  /**
+   * Returns the rule identifier.
+   *
+   * @return the identifier (e.g., {@code "HD01"}).
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Returns the kind of rule.
+   *
+   * @return the kind.
+   */
+  public Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * Returns the last year the rule is in force.
+   *
+   * @return the last year, or {@link Integer#MAX_VALUE} if unbounded.
+   */
+  public int getLastYear() {
+    return lastYear;
+  }
+
+  /**
+   * Returns the month of the base date.
+   *
+   * @return the month, or {@code 0} for Easter rules.
+   */
+  public int getMonthOfYear() {
+    return monthOfYear;
+  }
+
+  /**
+   * Checks whether the holiday of this rule always falls on a Monday: rules
+   * moved to Monday, and Easter rules a whole number of weeks plus one day away
+   * from Easter Sunday (e.g., Ascension, moved from Thursday to Monday).
+   *
+   * @return {@code true} if every occurrence is a Monday.
+   */
+  public boolean isObservedOnMonday() {
+    return kind == Kind.MOVED_TO_MONDAY || kind == Kind.EASTER_OFFSET && Math.floorMod(easterOffset, 7) == 1;
+  }
+
+  /**
+   * Returns a copy of this rule in force only for a range of years, such as a
+   * one-off decree holiday.
+   *
+   * @param firstYear The first year the rule is in force.
+   * @param lastYear  The last year the rule is in force, inclusive.
+   * @return a new rule.
+   * @throws IllegalArgumentException if the last year is before the first one.
+   */
+  public HolidayRule inYears(int firstYear, int lastYear) {
+    if (lastYear < firstYear) {
+      throw new IllegalArgumentException("The last year cannot be before the first one.");
+    }
+    return new HolidayRule(id, kind, monthOfYear, dayOfMonth, easterOffset, firstYear, lastYear);
+  }
+
+  @Override
+  public String toString() {
+    return kind == Kind.EASTER_OFFSET ? id + " " + kind + " " + easterOffset
+      : id + " " + kind + " " + monthOfYear + "/" + dayOfMonth;
+  }
+
+  /**
+   * Kinds of holiday rules.
+   */
+  public enum Kind {
+
+    /**
+     * A date falling on the same day every year.
+     */
+    FIXED,
+
+    /**
+     * A date moved to its nearest Monday.
+     */
+    MOVED_TO_MONDAY,
+
+    /**
+     * A number of days away from Easter Sunday.
+     */
+    EASTER_OFFSET
+  }
+}
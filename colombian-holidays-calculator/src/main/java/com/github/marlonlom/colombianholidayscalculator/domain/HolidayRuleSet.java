@@ -0,0 +1,435 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.domain;
+
+import com.github.marlonlom.colombianholidayscalculator.util.EpochDays;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable set of {@link HolidayRule}s, compiled into a flat evaluation plan.
+ * <br>
+ * Every rule is stored as a kind code plus its parameters, in parallel
+ * primitive arrays, so resolving a year is a single loop over a {@code switch},
+ * with no virtual call and no allocation per holiday, and Easter Sunday is
+ * calculated at most once per year. The built-in colombian holidays are
+ * available as {@link #builtIn()}; custom sets, such as the built-in holidays
+ * plus company days off or decree holidays, are made with {@link #builder()}.
+ *
+ * <pre>
+ * HolidayRuleSet rules = HolidayRuleSet.builder()
+ *   .addAll(HolidayRuleSet.builtIn())
+ *   .add(HolidayRule.fixed("COMPANY_DAY", 9, 15))
+ *   .add(HolidayRule.fixed("DECREE_2025", 3, 24).inYears(2025, 2025))
+ *   .build();
+ * </pre>
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public final class HolidayRuleSet {
+
+  /**
+   * Epoch day written by {@link #resolve(int, int[])} for rules not in force in
+   * the resolved year.
+   */
+  public static final int NOT_APPLICABLE = Integer.MIN_VALUE;
+
+  /**
+   * Kind code of fixed date rules.
+   */
+  private static final byte FIXED = 0;
+
+  /**
+   * Kind code of rules moved to their nearest Monday.
+   */
+  private static final byte MOVED_TO_MONDAY = 1;
+
+  /**
+   * Kind code of Easter based rules.
+   */
+  private static final byte EASTER_OFFSET = 2;
+
+  /**
+   * ISO day of the week of Mondays.
+   */
+  private static final int MONDAY = 1;
+
+  /**
+   * The rules, in evaluation order.
+   */
+  private final HolidayRule[] rules;
+
+  /**
+   * The kind code of every rule.
+   */
+  private final byte[] kinds;
+
+  /**
+   * The month of every date rule.
+   */
+  private final int[] monthsOfYear;
+
+  /**
+   * The day of the month of every date rule.
+   */
+  private final int[] daysOfMonth;
+
+  /**
+   * The Easter offset of every Easter based rule.
+   */
+  private final int[] easterOffsets;
+
+  /**
+   * The first year every rule is in force.
+   */
+  private final int[] firstYears;
+
+  /**
+   * The last year every rule is in force.
+   */
+  private final int[] lastYears;
+
+  /**
+   * The {@link HolidayDates} ordinal sharing the identifier of every rule, or
+   * {@code -1} for custom rules.
+   */
+  private final int[] builtInOrdinals;
+
+  /**
+   * Whether any rule depends on Easter Sunday.
+   */
+  private final boolean usesEaster;
+
+  /**
+   * Whether every rule is in force every year.
+   */
+  private final boolean everyYear;
+
+  /**
+   * The first year any rule is in force.
+   */
+  private final int firstYear;
+
+  /**
+   * The last year any rule is in force.
+   */
+  private final int lastYear;
+
+  /**
+   * Compiles a new {@code HolidayRuleSet}.
+   *
+   * @param rules the rules, in evaluation order
+   */
+  private HolidayRuleSet(HolidayRule[] rules) {
+    super();
+    this.rules = rules;
+    this.kinds = new byte[rules.length];
+    this.monthsOfYear = new int[rules.length];
+    this.daysOfMonth = new int[rules.length];
+    this.easterOffsets = new int[rules.length];
+    this.firstYears = new int[rules.length];
+    this.lastYears = new int[rules.length];
+    this.builtInOrdinals = new int[rules.length];
+    boolean easter = false;
+    boolean unbounded = true;
+    int first = Integer.MAX_VALUE;
+    int last = Integer.MIN_VALUE;
+    for (int i = 0; i < rules.length; i++) {
+      final HolidayRule rule = rules[i];
+      switch (rule.getKind()) {
+        case EASTER_OFFSET:
+          kinds[i] = EASTER_OFFSET;
+          easter = true;
+          break;
+        case MOVED_TO_MONDAY:
+          kinds[i] = MOVED_TO_MONDAY;
+          break;
+        default:
+          kinds[i] = FIXED;
+          break;
+      }
+      monthsOfYear[i] = rule.getMonthOfYear();
+      daysOfMonth[i] = rule.getDayOfMonth();
+      easterOffsets[i] = rule.getEasterOffset();
+      firstYears[i] = rule.getFirstYear();
+      lastYears[i] = rule.getLastYear();
+      unbounded &= firstYears[i] == Integer.MIN_VALUE && lastYears[i] == Integer.MAX_VALUE;
+      first = Math.min(first, firstYears[i]);
+      last = Math.max(last, lastYears[i]);
+      final HolidayDates holidayDate = HolidayDates.findById(rule.getId()).orElse(null);
+      builtInOrdinals[i] = holidayDate != null ? holidayDate.ordinal() : -1;
+    }
+    this.usesEaster = easter;
+    this.everyYear = unbounded;
+    this.firstYear = first;
+    this.lastYear = last;
+  }
+
+  /**
+   * Returns a new builder of rule sets.
+   *
+   * @return an empty builder.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns the rule set of the built-in colombian holidays, where the rule at
+   * position {@code i} is the rule of the {@link HolidayDates} constant with
+   * ordinal {@code i}.
+   *
+   * @return the built-in rule set.
+   */
+  public static HolidayRuleSet builtIn() {
+    return Holder.BUILT_IN;
+  }
+
+  /**
+   * Checks whether every rule of this set is in force every year, so every
+   * year has {@link #size()} holidays.
+   *
+   * @return {@code true} if no rule is limited to a range of years.
+   */
+  public boolean appliesEveryYear() {
+    return everyYear;
+  }
+
+  /**
+   * Returns the {@link HolidayDates} ordinal of the rule at the given position,
+   * matched by identifier, so built-in holidays keep their configured names.
+   *
+   * @param index The position of the rule, from {@code 0} to
+   *              {@code size() - 1}.
+   * @return the ordinal, or {@code -1} for custom rules.
+   */
+  public int getBuiltInOrdinal(int index) {
+    return builtInOrdinals[index];
+  }
+
+  /**
+   * Returns the first year any rule of this set is in force.
+   *
+   * @return the first year, {@link Integer#MIN_VALUE} if unbounded, or
+   * {@link Integer#MAX_VALUE} if the set is empty.
+   */
+  public int getFirstYear() {
+    return firstYear;
+  }
+
+  /**
+   * Returns the last year any rule of this set is in force.
+   *
+   * @return the last year, {@link Integer#MAX_VALUE} if unbounded, or
+   * {@link Integer#MIN_VALUE} if the set is empty.
+   */
+  public int getLastYear() {
+    return lastYear;
+  }
+
+  /**
+   * Returns the rule at the given position.
+   *
+   * @param index The position of the rule, from {@code 0} to
+   *              {@code size() - 1}.
+   * @return the rule.
+   */
+  public HolidayRule getRule(int index) {
+    return rules[index];
+  }
+
+  /**
+   * Returns the rules of this set, in evaluation order.
+   *
+   * @return an unmodifiable list of rules.
+   */
+  public List<HolidayRule> getRules() {
+    return Collections.unmodifiableList(Arrays.asList(rules));
+  }
+
+  /**
+   * Checks whether a date is a holiday under any rule of this set, without
+   * allocating.
+   *
+   * @param epochDay The date, as a number of days since 1970-01-01.
+   * @return {@code true} if the date is a holiday, {@code false} otherwise.
+   */
+  public boolean isHoliday(int epochDay) {
+    final int year = EpochDays.year(epochDay);
+    int easterEpochDay = NOT_APPLICABLE;
+    for (int i = 0; i < kinds.length; i++) {
+      if (year < firstYears[i] || year > lastYears[i]) {
+        continue;
+      }
+      if (kinds[i] == EASTER_OFFSET && easterEpochDay == NOT_APPLICABLE) {
+        easterEpochDay = EpochDays.easterSunday(year);
+      }
+      if (resolveRule(i, year, easterEpochDay) == epochDay) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Resolves every rule of this set for a year, calculating Easter Sunday only
+   * if a rule depends on it.
+   *
+   * @param year      The calendar year.
+   * @param epochDays The array receiving, at position {@code i}, the date of
+   *                  rule {@code i} as an epoch day, or {@link #NOT_APPLICABLE}
+   *                  if the rule is not in force in the year.
+   * @return the number of rules in force in the year.
+   * @throws IllegalArgumentException if the array is shorter than
+   *                                  {@link #size()}.
+   */
+  public int resolve(int year, int[] epochDays) {
+    return resolve(year, usesEaster ? EpochDays.easterSunday(year) : NOT_APPLICABLE, epochDays);
+  }
+
+  /**
+   * Resolves every rule of this set for a year, with an already calculated
+   * Easter Sunday.
+   *
+   * @param year           The calendar year.
+   * @param easterEpochDay Easter Sunday of the year, as an epoch day.
+   * @param epochDays      The array receiving, at position {@code i}, the date
+   *                       of rule {@code i} as an epoch day, or
+   *                       {@link #NOT_APPLICABLE} if the rule is not in force
+   *                       in the year.
+   * @return the number of rules in force in the year.
+   * @throws IllegalArgumentException if the array is shorter than
+   *                                  {@link #size()}.
+   */
+  public int resolve(int year, int easterEpochDay, int[] epochDays) {
+    if (epochDays.length < kinds.length) {
+      throw new IllegalArgumentException("Epoch days array too short: " + epochDays.length);
+    }
+    int count = 0;
+    for (int i = 0; i < kinds.length; i++) {
+      if (year < firstYears[i] || year > lastYears[i]) {
+        epochDays[i] = NOT_APPLICABLE;
+      } else {
+        epochDays[i] = resolveRule(i, year, easterEpochDay);
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Resolves a single rule for a year in which it is in force.
+   *
+   * @param index          the position of the rule
+   * @param year           the calendar year
+   * @param easterEpochDay Easter Sunday of the year, for Easter based rules
+   * @return the date of the rule, as an epoch day
+   */
+  private int resolveRule(int index, int year, int easterEpochDay) {
+    switch (kinds[index]) {
+      case EASTER_OFFSET:
+        return easterEpochDay + easterOffsets[index];
+      case MOVED_TO_MONDAY:
+        return EpochDays.nearestDayOfWeek(EpochDays.of(year, monthsOfYear[index], daysOfMonth[index]), MONDAY);
+      default:
+        return EpochDays.of(year, monthsOfYear[index], daysOfMonth[index]);
+    }
+  }
+
+  /**
+   * Returns the number of rules of this set.
+   *
+   * @return the rule count.
+   */
+  public int size() {
+    return rules.length;
+  }
+
+  /**
+   * Builder of {@link HolidayRuleSet}s. Rules keep the order they are added
+   * in.
+   */
+  public static final class Builder {
+
+    /**
+     * The rules added so far.
+     */
+    private final List<HolidayRule> rules = new ArrayList<>();
+
+    /**
+     * Constructs a new, empty {@code Builder} instance.
+     */
+    private Builder() {
+      super();
+    }
+
+    /**
+     * Adds a rule.
+     *
+     * @param rule The rule to add.
+     * @return this builder.
+     * @throws IllegalArgumentException if the rule is {@code null}.
+     */
+    public Builder add(HolidayRule rule) {
+      if (rule == null) {
+        throw new IllegalArgumentException("Holiday rule cannot be null.");
+      }
+      rules.add(rule);
+      return this;
+    }
+
+    /**
+     * Adds every rule of a rule set, keeping its order.
+     *
+     * @param ruleSet The rule set whose rules are added.
+     * @return this builder.
+     */
+    public Builder addAll(HolidayRuleSet ruleSet) {
+      rules.addAll(Arrays.asList(ruleSet.rules));
+      return this;
+    }
+
+    /**
+     * Compiles the rules added so far into a new rule set.
+     *
+     * @return a new {@code HolidayRuleSet}.
+     * @throws IllegalArgumentException if two rules share an identifier.
+     */
+    public HolidayRuleSet build() {
+      final Set<String> ids = new HashSet<>();
+      for (HolidayRule rule : rules) {
+        if (!ids.add(rule.getId())) {
+          throw new IllegalArgumentException("Duplicate holiday rule id: " + rule.getId());
+        }
+      }
+      return new HolidayRuleSet(rules.toArray(new HolidayRule[0]));
+    }
+  }
+
+  /**
+   * Lazy holder of the built-in rule set.
+   */
+  private static final class Holder {
+
+    /**
+     * The rules of the {@link HolidayDates} constants, in ordinal order.
+     */
+    private static final HolidayRuleSet BUILT_IN;
+
+    static {
+      final HolidayRule[] rules = new HolidayRule[HolidayDates.count()];
+      for (int ordinal = 0; ordinal < rules.length; ordinal++) {
+        rules[ordinal] = HolidayDates.ofOrdinal(ordinal).getRule();
+      }
+      BUILT_IN = new HolidayRuleSet(rules);
+    }
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.domain;
+
+import com.github.marlonlom.colombianholidayscalculator.util.EpochDays;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Lazy, chronologically ordered spliterator over the holidays of a range of
+ * dates. <br>
+ * Years are computed only when reached, and only the year being traversed is
+ * held, so memory use does not depend on the length of the range; years
+ * missing from the {@link HolidayYearIndex} are not stored in it. The size is
+ * known exactly when every rule of the index is in force every year, as with
+ * the built-in {@link HolidayDates} rules, and splitting hands out whole
+ * years, so parallel streams spread the computation of the years across cores.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public final class HolidaySpliterator implements Spliterator<Holiday> {
+
+  /**
+   * Index providing the holiday tables.
+   */
+  private final HolidayYearIndex index;
+
+  /**
+   * Number of holidays of a whole year, or an upper bound of it if some rules
+   * are limited to a range of years.
+   */
+  private final int holidaysPerYear;
+
+  /**
+   * The last year of the range.
+   */
+  private final int lastYear;
+
+  /**
+   * The position after the last holiday of the range within the last year, or
+   * {@link Integer#MAX_VALUE} to include the whole year.
+   */
+  private final int lastYearEnd;
+
+  /**
+   * The year being traversed.
+   */
+  private int year;
+
+  /**
+   * The position of the next holiday within the year being traversed.
+   */
+  private int position;
+
+  /**
+   * The table of the year being traversed, or {@code null} until reached.
+   */
+  private HolidayYear holidayYear;
+
+  /**
+   * Constructs a new {@code HolidaySpliterator} over the holidays falling within
+   * a range of dates.
+   *
+   * @param index        The index providing the holiday tables.
+   * @param fromEpochDay The first date of the range, as an epoch day.
+   * @param toEpochDay   The last date of the range, inclusive, as an epoch day.
+   * @throws IllegalArgumentException if the last date is before the first one.
+   */
+  public HolidaySpliterator(HolidayYearIndex index, int fromEpochDay, int toEpochDay) {
+    super();
+    if (toEpochDay < fromEpochDay) {
+      throw new IllegalArgumentException("The last date cannot be before the first one.");
+    }
+    this.index = index;
+    this.holidaysPerYear = index.getRuleSet().size();
+    this.year = EpochDays.year(fromEpochDay);
+    this.holidayYear = index.findOrComputeYear(year);
+    this.position = holidayYear.ceilingIndex(fromEpochDay);
+    this.lastYear = EpochDays.year(toEpochDay);
+    this.lastYearEnd = index.findOrComputeYear(lastYear).ceilingIndex(toEpochDay + 1);
+  }
+
+  /**
+   * Constructs a new {@code HolidaySpliterator} over a prefix of the range of
+   * another one.
+   *
+   * @param index       The index providing the holiday tables.
+   * @param year        The year being traversed.
+   * @param position    The position of the next holiday within the year.
+   * @param holidayYear The table of the year, or {@code null}.
+   * @param lastYear    The last year of the prefix.
+   * @param lastYearEnd The position after the last holiday within the last
+   *                    year.
+   */
+  private HolidaySpliterator(HolidayYearIndex index, int year, int position, HolidayYear holidayYear,
+                             int lastYear, int lastYearEnd) {
+    super();
+    this.index = index;
+    this.holidaysPerYear = index.getRuleSet().size();
+    this.year = year;
+    this.position = position;
+    this.holidayYear = holidayYear;
+    this.lastYear = lastYear;
+    this.lastYearEnd = lastYearEnd;
+  }
+
+  @Override
+  public int characteristics() {
+    final int characteristics = ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+    return index.getRuleSet().appliesEveryYear() ? characteristics | SIZED | SUBSIZED : characteristics;
+  }
+
+  @Override
+  public long estimateSize() {
+    if (year > lastYear) {
+      return 0L;
+    }
+    final int lastEnd = Math.min(lastYearEnd, holidaysPerYear);
+    if (year == lastYear) {
+      return Math.max(0, lastEnd - position);
+    }
+    return (long) (holidaysPerYear - position) + (long) (lastYear - year - 1) * holidaysPerYear + lastEnd;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super Holiday> action) {
+    while (year <= lastYear) {
+      if (holidayYear == null) {
+        holidayYear = index.findOrComputeYear(year);
+      }
+      final int count = holidayYear.getHolidayCount();
+      final int end = year == lastYear ? Math.min(lastYearEnd, count) : count;
+      if (position < end) {
+        final int pos = position++;
+        action.accept(new Holiday(holidayYear.getEpochDay(pos), holidayYear.getRule(pos)));
+        return true;
+      }
+      year++;
+      position = 0;
+      holidayYear = null;
+    }
+    return false;
+  }
+
+  @Override
+  public Spliterator<Holiday> trySplit() {
+    if (year >= lastYear) {
+      return null;
+    }
+    final int mid = year + (lastYear - year + 1) / 2;
+    final HolidaySpliterator prefix = new HolidaySpliterator(index, year, position, holidayYear, mid - 1,
+      Integer.MAX_VALUE);
+    year = mid;
+    position = 0;
+    holidayYear = null;
+    return prefix;
+  }
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.domain;
+
+import com.github.marlonlom.colombianholidayscalculator.util.EpochDays;
+import com.github.marlonlom.colombianholidayscalculator.util.LocalDateUtil;
+
+import java.util.Arrays;
+
+/**
+ * Immutable, precomputed holiday table for a single year. <br>
+ * Holidays are stored as epoch days in chronological order, along with the
+ * position of the {@link HolidayRule} of each one, and as a bitset of 366 bits,
+ * one per day of the year, so membership checks are answered with a single
+ * array access. Business days (neither weekend nor holiday) are stored as
+ * prefix sums, so they can be counted and located within the year without
+ * iterating day by day. Every day is also labelled with its {@link DayType},
+ * one byte per day, so long weekends are detected once per year and looked up
+ * with a single array access.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public final class HolidayYear {
+
+  /**
+   * Number of {@code long} words needed to hold one bit per day of the year.
+   */
+  private static final int WORDS_PER_YEAR = (366 + Long.SIZE - 1) / Long.SIZE;
+
+  /**
+   * ISO day of the week of Mondays.
+   */
+  private static final int MONDAY = 1;
+
+  /**
+   * ISO day of the week of Saturdays.
+   */
+  private static final int SATURDAY = 6;
+
+  /**
+   * ISO day of the week of Sundays.
+   */
+  private static final int SUNDAY = 7;
+
+  /**
+   * Stored code of {@link DayType#WORKDAY} days.
+   */
+  private static final byte WORKDAY = (byte) DayType.WORKDAY.ordinal();
+
+  /**
+   * Stored code of {@link DayType#WEEKEND} days.
+   */
+  private static final byte WEEKEND = (byte) DayType.WEEKEND.ordinal();
+
+  /**
+   * Stored code of {@link DayType#HOLIDAY} days.
+   */
+  private static final byte HOLIDAY = (byte) DayType.HOLIDAY.ordinal();
+
+  /**
+   * Stored code of {@link DayType#BRIDGE} days.
+   */
+  private static final byte BRIDGE = (byte) DayType.BRIDGE.ordinal();
+
+  /**
+   * The calendar year of this table.
+   */
+  private final int year;
+
+  /**
+   * The rules the holidays come from.
+   */
+  private final HolidayRuleSet rules;
+
+  /**
+   * Holiday dates as epoch days, in chronological order. Holidays falling on
+   * the same date keep the order of their rules.
+   */
+  private final int[] epochDays;
+
+  /**
+   * The position within the rule set of the rule of each holiday, aligned with
+   * the epoch days.
+   */
+  private final short[] ruleIndexes;
+
+  /**
+   * Holiday bitset, where bit {@code n} is set if day-of-year {@code n + 1} is
+   * a holiday.
+   */
+  private final long[] holidayBits;
+
+  /**
+   * Business day prefix sums, where position {@code n} holds the number of
+   * business days from January 1st up to and including day-of-year {@code n}.
+   * Position {@code 0} is always zero.
+   */
+  private final short[] businessDayCounts;
+
+  /**
+   * Day type table, where position {@code n} holds the {@link DayType} ordinal
+   * of day-of-year {@code n + 1}.
+   */
+  private final byte[] dayTypes;
+
+  /**
+   * Instantiates a new holiday year.
+   *
+   * @param year              the calendar year
+   * @param rules             the rules the holidays come from
+   * @param epochDays         the holiday epoch days
+   * @param ruleIndexes       the rule positions of the holidays
+   * @param holidayBits       the holiday bitset
+   * @param businessDayCounts the business day prefix sums
+   * @param dayTypes          the day type table
+   */
+  private HolidayYear(int year, HolidayRuleSet rules, int[] epochDays, short[] ruleIndexes, long[] holidayBits,
+                      short[] businessDayCounts, byte[] dayTypes) {
+    this.year = year;
+    this.rules = rules;
+    this.epochDays = epochDays;
+    this.ruleIndexes = ruleIndexes;
+    this.holidayBits = holidayBits;
+    this.businessDayCounts = businessDayCounts;
+    this.dayTypes = dayTypes;
+  }
+
+  /**
+   * Computes the holiday table of a year, using the rules defined in
+   * {@link HolidayDates}, resolved by the {@link HolidayRuleSet#builtIn()}
+   * plan.
+   * Years covered by the {@link StaticHolidayTable} read the holiday dates from
+   * it instead.
+   *
+   * @param dateUtil An instance of {@link LocalDateUtil} to assist with date
+   *                 calculations.
+   * @param year     The calendar year to compute.
+   * @return A new {@code HolidayYear} for the given year.
+   */
+  public static HolidayYear compute(LocalDateUtil dateUtil, int year) {
+    return compute(dateUtil, HolidayRuleSet.builtIn(), year);
+  }
+
+  /**
+   * Computes the holiday table of a year from a rule set, such as the built-in
+   * holidays plus company days off. Rules not in force in the year are left
+   * out. Only the built-in rule set reads the {@link StaticHolidayTable}.
+   *
+   * @param dateUtil An instance of {@link LocalDateUtil} to assist with date
+   *                 calculations.
+   * @param rules    The holiday rules.
+   * @param year     The calendar year to compute.
+   * @return A new {@code HolidayYear} for the given year.
+   */
+  public static HolidayYear compute(LocalDateUtil dateUtil, HolidayRuleSet rules, int year) {
+    final int ruleCount = rules.size();
+    final int[] resolved = new int[ruleCount];
+    int holidayCount = ruleCount;
+    if (rules == HolidayRuleSet.builtIn() && StaticHolidayTable.covers(year)) {
+      StaticHolidayTable.fill(year, resolved);
+    } else {
+      holidayCount = rules.resolve(year, dateUtil.calculateEasterEpochDay(year), resolved);
+    }
+    final long[] sortKeys = new long[holidayCount];
+    int pos = 0;
+    for (int index = 0; index < resolved.length; index++) {
+      if (resolved[index] != HolidayRuleSet.NOT_APPLICABLE) {
+        sortKeys[pos++] = (long) resolved[index] * ruleCount + index;
+      }
+    }
+    Arrays.sort(sortKeys);
+    final int[] epochDays = new int[sortKeys.length];
+    final short[] ruleIndexes = new short[sortKeys.length];
+    final int firstEpochDay = EpochDays.of(year, 1, 1);
+    final long[] holidayBits = new long[WORDS_PER_YEAR];
+    for (int i = 0; i < sortKeys.length; i++) {
+      epochDays[i] = (int) Math.floorDiv(sortKeys[i], (long) ruleCount);
+      ruleIndexes[i] = (short) Math.floorMod(sortKeys[i], (long) ruleCount);
+      final int dayIndex = epochDays[i] - firstEpochDay;
+      holidayBits[dayIndex >>> 6] |= 1L << dayIndex;
+    }
+    final int length = EpochDays.lengthOfYear(year);
+    final short[] businessDayCounts = new short[length + 1];
+    final byte[] dayTypes = new byte[length];
+    int dayOfWeek = EpochDays.dayOfWeek(firstEpochDay);
+    for (int dayIndex = 0; dayIndex < length; dayIndex++) {
+      final boolean weekend = dayOfWeek >= SATURDAY;
+      final boolean holiday = (holidayBits[dayIndex >>> 6] & (1L << dayIndex)) != 0L;
+      businessDayCounts[dayIndex + 1] = (short) (businessDayCounts[dayIndex] + (weekend || holiday ? 0 : 1));
+      dayTypes[dayIndex] = holiday ? HOLIDAY : weekend ? WEEKEND : WORKDAY;
+      dayOfWeek = dayOfWeek == SUNDAY ? MONDAY : dayOfWeek + 1;
+    }
+    for (int i = 0; i < epochDays.length; i++) {
+      if (rules.getRule(ruleIndexes[i]).isObservedOnMonday()) {
+        markBridges(dayTypes, epochDays[i] - firstEpochDay);
+      }
+    }
+    return new HolidayYear(year, rules, epochDays, ruleIndexes, holidayBits, businessDayCounts, dayTypes);
+  }
+
+  /**
+   * Labels as {@link DayType#BRIDGE} the weekend days of the run of days off
+   * around a Monday holiday. Runs are not followed into adjacent years, which
+   * Monday holidays never reach.
+   *
+   * @param dayTypes the day type table
+   * @param dayIndex the position of the Monday holiday
+   */
+  private static void markBridges(byte[] dayTypes, int dayIndex) {
+    for (int pos = dayIndex - 1; pos >= 0 && dayTypes[pos] != WORKDAY; pos--) {
+      if (dayTypes[pos] == WEEKEND) {
+        dayTypes[pos] = BRIDGE;
+      }
+    }
+    for (int pos = dayIndex + 1; pos < dayTypes.length && dayTypes[pos] != WORKDAY; pos++) {
+      if (dayTypes[pos] == WEEKEND) {
+        dayTypes[pos] = BRIDGE;
+      }
+    }
+  }
+
+  /**
+   * Locates the first holiday falling on or after a given date, using binary
+   * search over the chronologically sorted epoch days.
+   *
+   * @param epochDay The date, as a number of days since 1970-01-01.
+   * @return The position of the first holiday on or after the date, or
+   * {@link #getHolidayCount()} if there is none within the year.
+   */
+  public int ceilingIndex(int epochDay) {
+    int low = 0;
+    int high = epochDays.length;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (epochDays[mid] < epochDay) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Counts the business days from January 1st up to and including the given day
+   * of the year.
+   *
+   * @param dayOfYear The day of the year, from 0 to 365 or 366; {@code 0} yields
+   *                  zero.
+   * @return The number of business days.
+   */
+  public int countBusinessDays(int dayOfYear) {
+    return businessDayCounts[dayOfYear];
+  }
+
+  /**
+   * Locates the business day with the given position within the year.
+   *
+   * @param count The position of the business day, from 1 to
+   *              {@link #getBusinessDayCount()}.
+   * @return The day of the year of the requested business day.
+   */
+  public int findBusinessDay(int count) {
+    int low = 1;
+    int high = businessDayCounts.length - 1;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (businessDayCounts[mid] < count) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Returns the number of business days of the year.
+   *
+   * @return the business day count.
+   */
+  public int getBusinessDayCount() {
+    return businessDayCounts[businessDayCounts.length - 1];
+  }
+
+  /**
+   * Returns the type of the given day of the year.
+   *
+   * @param dayOfYear The day of the year, from 1 to 365 or 366.
+   * @return the day type.
+   */
+  public DayType getDayType(int dayOfYear) {
+    return DayType.ofOrdinal(dayTypes[dayOfYear - 1]);
+  }
+
+  /**
+   * Returns the epoch day of the holiday at the given position.
+   *
+   * @param index The position of the holiday, from {@code 0} to
+   *              {@code getHolidayCount() - 1}.
+   * @return The holiday date, as a number of days since 1970-01-01.
+   */
+  public int getEpochDay(int index) {
+    return epochDays[index];
+  }
+
+  /**
+   * Returns the number of holidays of the year, including any falling on the
+   * same date.
+   *
+   * @return the holiday count.
+   */
+  public int getHolidayCount() {
+    return epochDays.length;
+  }
+
+  /**
+   * Returns the {@link HolidayDates} ordinal of the holiday at the given
+   * position.
+   *
+   * @param index The position of the holiday, from {@code 0} to
+   *              {@code getHolidayCount() - 1}.
+   * @return The holiday ordinal, or {@code -1} for custom rules.
+   * @see HolidayRuleSet#getBuiltInOrdinal(int)
+   */
+  public int getHolidayOrdinal(int index) {
+    return rules.getBuiltInOrdinal(ruleIndexes[index]);
+  }
+
+  /**
+   * Returns the number of days of the year.
+   *
+   * @return 365, or 366 for leap years.
+   */
+  public int getLength() {
+    return businessDayCounts.length - 1;
+  }
+
+  /**
+   * Returns the rule of the holiday at the given position.
+   *
+   * @param index The position of the holiday, from {@code 0} to
+   *              {@code getHolidayCount() - 1}.
+   * @return The holiday rule.
+   */
+  public HolidayRule getRule(int index) {
+    return rules.getRule(ruleIndexes[index]);
+  }
+
+  /**
+   * Returns the position within the rule set of the rule of the holiday at the
+   * given position.
+   *
+   * @param index The position of the holiday, from {@code 0} to
+   *              {@code getHolidayCount() - 1}.
+   * @return The rule position.
+   */
+  public int getRuleIndex(int index) {
+    return ruleIndexes[index];
+  }
+
+  /**
+   * Returns the rules the holidays of this table come from.
+   *
+   * @return the rule set.
+   */
+  public HolidayRuleSet getRuleSet() {
+    return rules;
+  }
+
+  /**
+   * Returns the calendar year of this table.
+   *
+   * @return the year.
+   */
+  public int getYear() {
+    return year;
+  }
+
+  /**
+   * Checks whether the given day of the year is a business day, that is, neither
+   * a weekend day nor a holiday.
+   *
+   * @param dayOfYear The day of the year, from 1 to 365 or 366.
+   * @return {@code true} if the day is a business day, {@code false} otherwise.
+   */
+  public boolean isBusinessDay(int dayOfYear) {
+    return businessDayCounts[dayOfYear] != businessDayCounts[dayOfYear - 1];
+  }
+
+  /**
+   * Checks whether the given day of the year is a holiday.
+   *
+   * @param dayOfYear The day of the year, from 1 to 365 or 366.
+   * @return {@code true} if the day is a holiday, {@code false} otherwise.
+   */
+  public boolean isHoliday(int dayOfYear) {
+    final int dayIndex = dayOfYear - 1;
+    return (holidayBits[dayIndex >>> 6] & (1L << dayIndex)) != 0L;
+  }
+}
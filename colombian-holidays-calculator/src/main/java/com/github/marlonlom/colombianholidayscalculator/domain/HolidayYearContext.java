@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.domain;
+
+import com.github.marlonlom.colombianholidayscalculator.util.LocalDateUtil;
+
+/**
+ * Per-year context shared by the {@link HolidayDates} resolved for a single
+ * year. <br>
+ * Easter Sunday is calculated at most once per context, so every movable
+ * holiday of the year is derived from the same date. A context is meant to be
+ * used by a single thread. Dates are handled as epoch days, so no date object
+ * is allocated while resolving a year.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public final class HolidayYearContext {
+
+  /**
+   * Utility used to calculate the dates.
+   */
+  private final LocalDateUtil dateUtil;
+
+  /**
+   * The calendar year of the context.
+   */
+  private final int year;
+
+  /**
+   * Whether Easter Sunday has been calculated.
+   */
+  private boolean easterCalculated;
+
+  /**
+   * Easter Sunday of the year, as an epoch day, once calculated.
+   */
+  private int easterEpochDay;
+
+  /**
+   * Constructs a new {@code HolidayYearContext} instance.
+   *
+   * @param dateUtil An instance of {@link LocalDateUtil} to assist with date
+   *                 calculations.
+   * @param year     The calendar year of the context.
+   */
+  public HolidayYearContext(LocalDateUtil dateUtil, int year) {
+    super();
+    this.dateUtil = dateUtil;
+    this.year = year;
+  }
+
+  /**
+   * Returns the utility used to calculate the dates.
+   *
+   * @return the local date utility instance.
+   */
+  public LocalDateUtil getDateUtil() {
+    return dateUtil;
+  }
+
+  /**
+   * Returns Easter Sunday of the year, calculating it on first use.
+   *
+   * @return The epoch day of Easter Sunday.
+   */
+  public int getEasterEpochDay() {
+    if (!easterCalculated) {
+      easterEpochDay = dateUtil.calculateEasterEpochDay(year);
+      easterCalculated = true;
+    }
+    return easterEpochDay;
+  }
+
+  /**
+   * Returns the calendar year of the context.
+   *
+   * @return the year.
+   */
+  public int getYear() {
+    return year;
+  }
+}
@@ -0,0 +1,392 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.domain;
+
+import com.github.marlonlom.colombianholidayscalculator.util.EpochDays;
+import com.github.marlonlom.colombianholidayscalculator.util.LocalDateUtil;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Lazily populated index of {@link HolidayYear} tables, covering a contiguous
+ * range of years. <br>
+ * Lookups of already computed years read an immutable snapshot without locking
+ * or allocating. Missing years are computed on first use, and the range is
+ * extended by publishing a new snapshot (copy-on-write). Years out of the range
+ * from {@link #MIN_YEAR} to {@link #MAX_YEAR} are computed on every call, and
+ * never stored. Every table is computed from the same {@link HolidayRuleSet}.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public final class HolidayYearIndex {
+
+  /**
+   * Lowest year stored by the index.
+   */
+  public static final int MIN_YEAR = 1;
+
+  /**
+   * Highest year stored by the index.
+   */
+  public static final int MAX_YEAR = 9999;
+
+  /**
+   * Number of years below which a range is computed by a single fork-join
+   * task.
+   */
+  private static final int YEARS_PER_TASK = 16;
+
+  /**
+   * Utility used to compute the holiday dates.
+   */
+  private final LocalDateUtil localDateUtil;
+
+  /**
+   * The rules the holiday dates are computed from.
+   */
+  private final HolidayRuleSet rules;
+
+  /**
+   * The currently published snapshot of computed years.
+   */
+  private volatile Snapshot snapshot;
+
+  /**
+   * Constructs a new, empty {@code HolidayYearIndex} instance, using the
+   * {@link HolidayRuleSet#builtIn()} rules.
+   *
+   * @param localDateUtil An instance of {@link LocalDateUtil} to assist with
+   *                      date calculations.
+   */
+  public HolidayYearIndex(LocalDateUtil localDateUtil) {
+    this(localDateUtil, HolidayRuleSet.builtIn());
+  }
+
+  /**
+   * Constructs a new, empty {@code HolidayYearIndex} instance.
+   *
+   * @param localDateUtil An instance of {@link LocalDateUtil} to assist with
+   *                      date calculations.
+   * @param rules         The rules the holiday dates are computed from.
+   * @throws IllegalArgumentException if the rule set is null.
+   */
+  public HolidayYearIndex(LocalDateUtil localDateUtil, HolidayRuleSet rules) {
+    super();
+    if (rules == null) {
+      throw new IllegalArgumentException("The holiday rule set cannot be null.");
+    }
+    this.localDateUtil = localDateUtil;
+    this.rules = rules;
+    this.snapshot = new Snapshot(0, new HolidayYear[0]);
+  }
+
+  /**
+   * Retrieves the holiday table of a year without growing the index. Stored
+   * years are reused; missing years are computed on every call.
+   *
+   * @param year The calendar year.
+   * @return The {@link HolidayYear} for the given year.
+   */
+  HolidayYear findOrComputeYear(int year) {
+    final HolidayYear stored = findYear(year);
+    return stored != null ? stored : HolidayYear.compute(localDateUtil, rules, year);
+  }
+
+  /**
+   * Retrieves the holiday table of a year only if it is already stored.
+   *
+   * @param year The calendar year.
+   * @return The stored {@link HolidayYear}, or {@code null} if not computed yet.
+   */
+  public HolidayYear findYear(int year) {
+    final Snapshot current = snapshot;
+    final int pos = year - current.firstYear;
+    return pos >= 0 && pos < current.years.length ? current.years[pos] : null;
+  }
+
+  /**
+   * Returns the type of a date, with a single lookup in the day type table of
+   * its year.
+   *
+   * @param epochDay The date, as a number of days since 1970-01-01.
+   * @return the day type.
+   */
+  public DayType getDayType(int epochDay) {
+    return getYear(EpochDays.year(epochDay)).getDayType(EpochDays.dayOfYear(epochDay));
+  }
+
+  /**
+   * Retrieves the holiday table of a year, computing it if needed.
+   *
+   * @param year The calendar year.
+   * @return The {@link HolidayYear} for the given year.
+   */
+  public HolidayYear getYear(int year) {
+    final HolidayYear holidayYear = findYear(year);
+    if (holidayYear != null) {
+      return holidayYear;
+    }
+    if (year < MIN_YEAR || year > MAX_YEAR) {
+      return HolidayYear.compute(localDateUtil, rules, year);
+    }
+    return computeYear(year);
+  }
+
+  /**
+   * Retrieves the holiday tables of a range of years. Stored years are reused;
+   * missing years are computed but not stored, so large ranges do not grow the
+   * index.
+   *
+   * @param fromYear The first year of the range.
+   * @param toYear   The last year of the range, inclusive.
+   * @param pool     The fork-join pool used to compute the years in parallel, or
+   *                 {@code null} to compute them on the calling thread.
+   * @return The holiday tables, where position {@code i} holds year
+   * {@code fromYear + i}.
+   * @throws IllegalArgumentException if the last year is before the first one.
+   */
+  public HolidayYear[] getYears(int fromYear, int toYear, ForkJoinPool pool) {
+    if (toYear < fromYear) {
+      throw new IllegalArgumentException("The last year cannot be before the first one.");
+    }
+    final HolidayYear[] years = new HolidayYear[toYear - fromYear + 1];
+    final YearRangeTask task = new YearRangeTask(this, years, fromYear, 0, years.length);
+    if (pool == null) {
+      task.computeDirectly();
+    } else {
+      pool.invoke(task);
+    }
+    return years;
+  }
+
+  /**
+   * Returns the utility used to compute the holiday dates, which also holds the
+   * zone used to date instants.
+   *
+   * @return the date utility.
+   */
+  public LocalDateUtil getLocalDateUtil() {
+    return localDateUtil;
+  }
+
+  /**
+   * Returns the rules the holiday dates are computed from.
+   *
+   * @return the rule set.
+   */
+  public HolidayRuleSet getRuleSet() {
+    return rules;
+  }
+
+  /**
+   * Checks whether a date is a business day, that is, neither a weekend day nor
+   * a holiday.
+   *
+   * @param epochDay The date, as a number of days since 1970-01-01.
+   * @return {@code true} if the date is a business day, {@code false} otherwise.
+   */
+  public boolean isBusinessDay(int epochDay) {
+    return getYear(EpochDays.year(epochDay)).isBusinessDay(EpochDays.dayOfYear(epochDay));
+  }
+
+  /**
+   * Checks whether a date is a holiday.
+   *
+   * @param epochDay The date, as a number of days since 1970-01-01.
+   * @return {@code true} if the date is a holiday, {@code false} otherwise.
+   */
+  public boolean isHoliday(int epochDay) {
+    return getYear(EpochDays.year(epochDay)).isHoliday(EpochDays.dayOfYear(epochDay));
+  }
+
+  /**
+   * Checks whether a date is a holiday.
+   *
+   * @param year      The calendar year.
+   * @param dayOfYear The day of the year, from 1 to 365 or 366.
+   * @return {@code true} if the date is a holiday, {@code false} otherwise.
+   */
+  public boolean isHoliday(int year, int dayOfYear) {
+    return getYear(year).isHoliday(dayOfYear);
+  }
+
+  /**
+   * Finds the first holiday strictly after a given date, moving on to the
+   * following years when needed, up to the last year of the rule set.
+   *
+   * @param epochDay The date, as a number of days since 1970-01-01.
+   * @return The epoch day of the next holiday.
+   * @throws NoSuchElementException if no rule is in force after the date.
+   */
+  public int nextHoliday(int epochDay) {
+    final int year = EpochDays.year(epochDay);
+    final HolidayYear holidayYear = getYear(year);
+    final int pos = holidayYear.ceilingIndex(epochDay + 1);
+    if (pos < holidayYear.getHolidayCount()) {
+      return holidayYear.getEpochDay(pos);
+    }
+    for (int next = Math.max(year + 1, rules.getFirstYear()); next <= rules.getLastYear(); next++) {
+      final HolidayYear nextYear = getYear(next);
+      if (nextYear.getHolidayCount() > 0) {
+        return nextYear.getEpochDay(0);
+      }
+    }
+    throw new NoSuchElementException("No holiday after epoch day " + epochDay);
+  }
+
+  /**
+   * Finds the last holiday strictly before a given date, moving back to the
+   * previous years when needed, down to the first year of the rule set.
+   *
+   * @param epochDay The date, as a number of days since 1970-01-01.
+   * @return The epoch day of the previous holiday.
+   * @throws NoSuchElementException if no rule is in force before the date.
+   */
+  public int previousHoliday(int epochDay) {
+    final int year = EpochDays.year(epochDay);
+    final HolidayYear holidayYear = getYear(year);
+    final int pos = holidayYear.ceilingIndex(epochDay) - 1;
+    if (pos >= 0) {
+      return holidayYear.getEpochDay(pos);
+    }
+    for (int previous = Math.min(year - 1, rules.getLastYear()); previous >= rules.getFirstYear(); previous--) {
+      final HolidayYear previousYear = getYear(previous);
+      if (previousYear.getHolidayCount() > 0) {
+        return previousYear.getEpochDay(previousYear.getHolidayCount() - 1);
+      }
+    }
+    throw new NoSuchElementException("No holiday before epoch day " + epochDay);
+  }
+
+  /**
+   * Computes a missing year and publishes a new snapshot containing it.
+   *
+   * @param year The calendar year to compute.
+   * @return The computed {@link HolidayYear}.
+   */
+  private synchronized HolidayYear computeYear(int year) {
+    final Snapshot current = snapshot;
+    final int pos = year - current.firstYear;
+    if (pos >= 0 && pos < current.years.length && current.years[pos] != null) {
+      return current.years[pos];
+    }
+    final int firstYear = current.years.length == 0 ? year : Math.min(year, current.firstYear);
+    final int lastYear = current.years.length == 0 ? year
+      : Math.max(year, current.firstYear + current.years.length - 1);
+    final HolidayYear[] years = new HolidayYear[lastYear - firstYear + 1];
+    if (current.years.length > 0) {
+      System.arraycopy(current.years, 0, years, current.firstYear - firstYear, current.years.length);
+    }
+    final HolidayYear holidayYear = HolidayYear.compute(localDateUtil, rules, year);
+    years[year - firstYear] = holidayYear;
+    snapshot = new Snapshot(firstYear, years);
+    return holidayYear;
+  }
+
+  /**
+   * Immutable view of the computed years, where position {@code i} holds the
+   * table of year {@code firstYear + i}, or {@code null} if not yet computed.
+   */
+  private static final class Snapshot {
+
+    /**
+     * The first year covered by the snapshot.
+     */
+    private final int firstYear;
+
+    /**
+     * The computed years, indexed from {@code firstYear}.
+     */
+    private final HolidayYear[] years;
+
+    /**
+     * Instantiates a new snapshot.
+     *
+     * @param firstYear the first covered year
+     * @param years     the computed years
+     */
+    private Snapshot(int firstYear, HolidayYear[] years) {
+      this.firstYear = firstYear;
+      this.years = years;
+    }
+  }
+
+  /**
+   * Fork-join task filling a slice of a range of holiday tables, splitting it in
+   * halves while it is larger than {@link #YEARS_PER_TASK}.
+   */
+  private static final class YearRangeTask extends RecursiveAction {
+
+    /**
+     * serialVersionUID
+     */
+    private static final long serialVersionUID = 3264091780734105618L;
+
+    /**
+     * The index providing stored years.
+     */
+    private final transient HolidayYearIndex index;
+
+    /**
+     * The tables being filled.
+     */
+    private final HolidayYear[] years;
+
+    /**
+     * The year at position {@code 0} of the tables.
+     */
+    private final int firstYear;
+
+    /**
+     * The first position of the slice.
+     */
+    private final int from;
+
+    /**
+     * The position after the last one of the slice.
+     */
+    private final int to;
+
+    /**
+     * Instantiates a new year range task.
+     *
+     * @param index     the index providing stored years
+     * @param years     the tables being filled
+     * @param firstYear the year at position {@code 0}
+     * @param from      the first position of the slice
+     * @param to        the position after the last one of the slice
+     */
+    private YearRangeTask(HolidayYearIndex index, HolidayYear[] years, int firstYear, int from, int to) {
+      this.index = index;
+      this.years = years;
+      this.firstYear = firstYear;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= YEARS_PER_TASK) {
+        computeDirectly();
+      } else {
+        final int mid = (from + to) >>> 1;
+        invokeAll(new YearRangeTask(index, years, firstYear, from, mid),
+          new YearRangeTask(index, years, firstYear, mid, to));
+      }
+    }
+
+    /**
+     * Fills the slice on the calling thread.
+     */
+    private void computeDirectly() {
+      for (int pos = from; pos < to; pos++) {
+        years[pos] = index.findOrComputeYear(firstYear + pos);
+      }
+    }
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.domain;
+
+import java.time.LocalDate;
+
+/**
+ * A long weekend ("puente festivo"): a run of consecutive days off holding at
+ * least one {@link DayType#BRIDGE} day, usually a Saturday, a Sunday and a
+ * Monday holiday. <br>
+ * Instances are immutable; the dates are held as epoch days and only converted
+ * to {@link LocalDate}s when requested.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public final class LongWeekend {
+
+  /**
+   * The first day off, as a number of days since 1970-01-01.
+   */
+  private final int firstEpochDay;
+
+  /**
+   * The last day off, as a number of days since 1970-01-01.
+   */
+  private final int lastEpochDay;
+
+  /**
+   * Constructs a new {@code LongWeekend} instance.
+   *
+   * @param firstEpochDay The first day off, as an epoch day.
+   * @param lastEpochDay  The last day off, inclusive, as an epoch day.
+   */
+  public LongWeekend(int firstEpochDay, int lastEpochDay) {
+    super();
+    this.firstEpochDay = firstEpochDay;
+    this.lastEpochDay = lastEpochDay;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof LongWeekend)) {
+      return false;
+    }
+    final LongWeekend longWeekend = (LongWeekend) other;
+    return firstEpochDay == longWeekend.firstEpochDay && lastEpochDay == longWeekend.lastEpochDay;
+  }
+
+  /**
+   * Returns the last day off.
+   *
+   * @return the last date, inclusive.
+   */
+  public LocalDate getEnd() {
+    return LocalDate.ofEpochDay(lastEpochDay);
+  }
+
+  /**
+   * Returns the first day off, as a number of days since 1970-01-01.
+   *
+   * @return the first epoch day.
+   */
+  public int getFirstEpochDay() {
+    return firstEpochDay;
+  }
+
+  /**
+   * Returns the last day off, as a number of days since 1970-01-01.
+   *
+   * @return the last epoch day, inclusive.
+   */
+  public int getLastEpochDay() {
+    return lastEpochDay;
+  }
+
+  /**
+   * Returns the number of days off.
+   *
+   * @return the length, three days or more.
+   */
+  public int getLength() {
+    return lastEpochDay - firstEpochDay + 1;
+  }
+
+  /**
+   * Returns the first day off.
+   *
+   * @return the first date.
+   */
+  public LocalDate getStart() {
+    return LocalDate.ofEpochDay(firstEpochDay);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * firstEpochDay + lastEpochDay;
+  }
+
+  @Override
+  public String toString() {
+    return getStart() + "/" + getEnd();
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.domain;
+
+import com.github.marlonlom.colombianholidayscalculator.util.EpochDays;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy, chronologically ordered iterator over the {@link LongWeekend}s
+ * overlapping a range of dates. <br>
+ * Days are classified with the day type tables of {@link HolidayYear}, one
+ * array access per day; years are computed only when reached, and years
+ * missing from the {@link HolidayYearIndex} are not stored in it. Long weekends
+ * crossing the bounds of the range are returned whole.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public final class LongWeekendIterator implements Iterator<LongWeekend> {
+
+  /**
+   * Index providing the holiday tables.
+   */
+  private final HolidayYearIndex index;
+
+  /**
+   * The last date of the range, as an epoch day.
+   */
+  private final int toEpochDay;
+
+  /**
+   * The next date to scan, as an epoch day.
+   */
+  private int cursor;
+
+  /**
+   * The next long weekend, or {@code null} if not found yet.
+   */
+  private LongWeekend next;
+
+  /**
+   * The table of the year being scanned, or {@code null} until reached.
+   */
+  private HolidayYear holidayYear;
+
+  /**
+   * The epoch day of January 1st of the year being scanned.
+   */
+  private int yearStart;
+
+  /**
+   * Constructs a new {@code LongWeekendIterator} over the long weekends
+   * overlapping a range of dates.
+   *
+   * @param index        The index providing the holiday tables.
+   * @param fromEpochDay The first date of the range, as an epoch day.
+   * @param toEpochDay   The last date of the range, inclusive, as an epoch day.
+   * @throws IllegalArgumentException if the last date is before the first one.
+   */
+  public LongWeekendIterator(HolidayYearIndex index, int fromEpochDay, int toEpochDay) {
+    super();
+    if (toEpochDay < fromEpochDay) {
+      throw new IllegalArgumentException("The last date cannot be before the first one.");
+    }
+    this.index = index;
+    this.toEpochDay = toEpochDay;
+    int start = fromEpochDay;
+    if (dayType(start).isDayOff()) {
+      while (dayType(start - 1).isDayOff()) {
+        start--;
+      }
+    }
+    this.cursor = start;
+  }
+
+  /**
+   * Returns the type of a date, moving to its year when needed.
+   *
+   * @param epochDay the date, as an epoch day
+   * @return the day type
+   */
+  private DayType dayType(int epochDay) {
+    if (holidayYear == null || epochDay < yearStart || epochDay >= yearStart + holidayYear.getLength()) {
+      final int year = EpochDays.year(epochDay);
+      holidayYear = index.findOrComputeYear(year);
+      yearStart = EpochDays.of(year, 1, 1);
+    }
+    return holidayYear.getDayType(epochDay - yearStart + 1);
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (next == null && cursor <= toEpochDay) {
+      if (!dayType(cursor).isDayOff()) {
+        cursor++;
+        continue;
+      }
+      final int start = cursor;
+      boolean bridge = false;
+      DayType type;
+      while ((type = dayType(cursor)).isDayOff()) {
+        bridge |= type == DayType.BRIDGE;
+        cursor++;
+      }
+      if (bridge) {
+        next = new LongWeekend(start, cursor - 1);
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public LongWeekend next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    final LongWeekend longWeekend = next;
+    next = null;
+    return longWeekend;
+  }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.domain;
+
+import com.github.marlonlom.colombianholidayscalculator.util.EpochDays;
+import com.github.marlonlom.colombianholidayscalculator.util.LocalDateUtil;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Precomputed holiday table for a fixed window of years, generated at build
+ * time by {@link StaticHolidayTableGenerator} and shipped as a class path
+ * resource. <br>
+ * The table holds, for every year of the window and every
+ * {@link HolidayDates} constant, the day of the year of the holiday, packed as
+ * a {@code short}. It is loaded once, on first use; within the window holidays
+ * are then resolved by array indexing. If the resource is missing or invalid,
+ * the table covers no year and callers fall back to the live rules.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public final class StaticHolidayTable {
+
+  /**
+   * Name of the class path resource holding the table, relative to this class.
+   */
+  static final String RESOURCE_NAME = "holiday-table.bin";
+
+  /**
+   * Marker written at the start of the resource ({@code "CHT1"}).
+   */
+  private static final int MAGIC = 0x43485431;
+
+  /**
+   * Constructs a new {@code StaticHolidayTable} instance.
+   */
+  private StaticHolidayTable() {
+    super();
+  }
+
+  /**
+   * Checks whether a year is covered by the table.
+   *
+   * @param year The calendar year.
+   * @return {@code true} if holidays of the year can be read from the table,
+   * {@code false} if they must be computed from the rules.
+   */
+  public static boolean covers(int year) {
+    final Table table = Holder.TABLE;
+    return year >= table.firstYear && year <= table.lastYear;
+  }
+
+  /**
+   * Returns the date of a holiday from the table.
+   *
+   * @param year        The calendar year, which must be covered by the table.
+   * @param holidayDate The holiday to look up.
+   * @return The holiday date, as a number of days since 1970-01-01.
+   * @throws IllegalArgumentException if the year is not covered by the table.
+   */
+  public static int getEpochDay(int year, HolidayDates holidayDate) {
+    if (!covers(year)) {
+      throw new IllegalArgumentException("Year not covered by the static holiday table.");
+    }
+    return EpochDays.of(year, 1, 1) + getDayOfYear(Holder.TABLE, year, holidayDate.ordinal()) - 1;
+  }
+
+  /**
+   * Returns the first year covered by the table.
+   *
+   * @return the first year, or {@code 0} if the table is not available.
+   */
+  public static int getFirstYear() {
+    return Holder.TABLE.firstYear;
+  }
+
+  /**
+   * Returns the last year covered by the table.
+   *
+   * @return the last year, or {@code -1} if the table is not available.
+   */
+  public static int getLastYear() {
+    return Holder.TABLE.lastYear;
+  }
+
+  /**
+   * Fills the holiday dates of a covered year, in {@link HolidayDates} ordinal
+   * order.
+   *
+   * @param year      The calendar year, which must be covered by the table.
+   * @param epochDays The array receiving one epoch day per {@link HolidayDates}
+   *                  constant.
+   */
+  static void fill(int year, int[] epochDays) {
+    final Table table = Holder.TABLE;
+    final int firstEpochDay = EpochDays.of(year, 1, 1) - 1;
+    for (int ordinal = 0; ordinal < epochDays.length; ordinal++) {
+      epochDays[ordinal] = firstEpochDay + getDayOfYear(table, year, ordinal);
+    }
+  }
+
+  /**
+   * Writes a table for a window of years, computing every holiday from the
+   * rules.
+   *
+   * @param outputStream The stream receiving the table.
+   * @param firstYear    The first year of the window.
+   * @param lastYear     The last year of the window, inclusive.
+   * @throws IOException if the table could not be written.
+   */
+  static void write(OutputStream outputStream, int firstYear, int lastYear) throws IOException {
+    final HolidayDates[] holidayDates = HolidayDates.values();
+    final LocalDateUtil dateUtil = new LocalDateUtil();
+    final DataOutputStream output = new DataOutputStream(outputStream);
+    output.writeInt(MAGIC);
+    output.writeShort(firstYear);
+    output.writeShort(lastYear);
+    output.writeByte(holidayDates.length);
+    for (int year = firstYear; year <= lastYear; year++) {
+      final HolidayYearContext context = new HolidayYearContext(dateUtil, year);
+      final int firstEpochDay = EpochDays.of(year, 1, 1) - 1;
+      for (HolidayDates holidayDate : holidayDates) {
+        output.writeShort(holidayDate.resolveEpochDay(context) - firstEpochDay);
+      }
+    }
+    output.flush();
+  }
+
+  /**
+   * Returns the day of the year of a holiday.
+   *
+   * @param table   The loaded table.
+   * @param year    The covered calendar year.
+   * @param ordinal The {@link HolidayDates} ordinal.
+   * @return The day of the year, from 1 to 366.
+   */
+  private static int getDayOfYear(Table table, int year, int ordinal) {
+    return table.daysOfYear[(year - table.firstYear) * table.holidayCount + ordinal];
+  }
+
+  /**
+   * Reads the table from the class path.
+   *
+   * @return The loaded table, or an empty one if the resource is missing or
+   * invalid.
+   */
+  private static Table load() {
+    try (InputStream inputStream = StaticHolidayTable.class.getResourceAsStream(RESOURCE_NAME)) {
+      if (inputStream == null) {
+        return Table.EMPTY;
+      }
+      final DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream));
+      final int holidayCount = HolidayDates.count();
+      if (input.readInt() != MAGIC) {
+        return Table.EMPTY;
+      }
+      final int firstYear = input.readShort();
+      final int lastYear = input.readShort();
+      if (input.readByte() != holidayCount || lastYear < firstYear) {
+        return Table.EMPTY;
+      }
+      final short[] daysOfYear = new short[(lastYear - firstYear + 1) * holidayCount];
+      for (int i = 0; i < daysOfYear.length; i++) {
+        daysOfYear[i] = input.readShort();
+      }
+      return new Table(firstYear, lastYear, holidayCount, daysOfYear);
+    } catch (IOException exception) {
+      return Table.EMPTY;
+    }
+  }
+
+  /**
+   * Lazy holder of the loaded table.
+   */
+  private static final class Holder {
+
+    /**
+     * The table, loaded when first accessed.
+     */
+    private static final Table TABLE = load();
+  }
+
+  /**
+   * Immutable, loaded table contents.
+   */
+  private static final class Table {
+
+    /**
+     * A table covering no year.
+     */
+    private static final Table EMPTY = new Table(0, -1, 0, new short[0]);
+
+    /**
+     * The first covered year.
+     */
+    private final int firstYear;
+
+    /**
+     * The last covered year.
+     */
+    private final int lastYear;
+
+    /**
+     * Number of holidays per year.
+     */
+    private final int holidayCount;
+
+    /**
+     * Days of the year, {@code holidayCount} per year, in ordinal order.
+     */
+    private final short[] daysOfYear;
+
+    /**
+     * Instantiates a new table.
+     *
+     * @param firstYear    the first covered year
+     * @param lastYear     the last covered year
+     * @param holidayCount the number of holidays per year
+     * @param daysOfYear   the packed days of the year
+     */
+    private Table(int firstYear, int lastYear, int holidayCount, short[] daysOfYear) {
+      this.firstYear = firstYear;
+      this.lastYear = lastYear;
+      this.holidayCount = holidayCount;
+      this.daysOfYear = daysOfYear;
+    }
+  }
+}
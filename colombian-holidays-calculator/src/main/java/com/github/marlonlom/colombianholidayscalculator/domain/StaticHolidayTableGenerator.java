@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.domain;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Build-time generator of the {@link StaticHolidayTable} resource. <br>
+ * Run by the Maven build in a forked JVM once classes are compiled, with the
+ * output directory of the classes and the first and last years of the window
+ * as arguments. It is not part of the API and is left out of the jar.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+final class StaticHolidayTableGenerator {
+
+  /**
+   * Constructs a new {@code StaticHolidayTableGenerator} instance.
+   */
+  private StaticHolidayTableGenerator() {
+    super();
+  }
+
+  /**
+   * Generates the table resource.
+   *
+   * @param args The classes output directory, the first year and the last year
+   *             of the window.
+   * @throws IOException if the resource could not be written.
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 3) {
+      throw new IllegalArgumentException("Expected arguments: <classes directory> <first year> <last year>.");
+    }
+    final int firstYear = Integer.parseInt(args[1]);
+    final int lastYear = Integer.parseInt(args[2]);
+    if (lastYear < firstYear || firstYear < HolidayYearIndex.MIN_YEAR || lastYear > HolidayYearIndex.MAX_YEAR) {
+      throw new IllegalArgumentException("Invalid static holiday table window.");
+    }
+    final Path resource = Paths.get(args[0], StaticHolidayTable.class.getPackage().getName().replace('.', '/'),
+      StaticHolidayTable.RESOURCE_NAME);
+    Files.createDirectories(resource.getParent());
+    try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(resource))) {
+      StaticHolidayTable.write(outputStream, firstYear, lastYear);
+    }
+  }
+}
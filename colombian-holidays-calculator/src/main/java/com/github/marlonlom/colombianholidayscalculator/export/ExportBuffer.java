@@ -0,0 +1,224 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.export;
+
+import com.github.marlonlom.colombianholidayscalculator.util.EpochDays;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fixed-size output buffer of the holiday exporters. <br>
+ * Text is appended to a character array, which is handed to a {@link Writer}
+ * or encoded as UTF-8 into a direct byte buffer and written to a
+ * {@link WritableByteChannel} whenever it fills up, so memory use does not
+ * depend on the amount of exported text. Dates and numbers are written digit
+ * by digit, with no intermediate strings.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+final class ExportBuffer {
+
+  /**
+   * Size of the character and byte buffers.
+   */
+  private static final int BUFFER_SIZE = 8192;
+
+  /**
+   * The pending characters.
+   */
+  private final char[] chars;
+
+  /**
+   * The writer receiving the text, or {@code null} when writing to a channel.
+   */
+  private final Writer writer;
+
+  /**
+   * The channel receiving the encoded text, or {@code null} when writing to a
+   * writer.
+   */
+  private final WritableByteChannel channel;
+
+  /**
+   * The UTF-8 encoder, for channels.
+   */
+  private final CharsetEncoder encoder;
+
+  /**
+   * The encoded bytes, for channels.
+   */
+  private final ByteBuffer bytes;
+
+  /**
+   * Number of pending characters.
+   */
+  private int length;
+
+  /**
+   * Constructs a new {@code ExportBuffer} writing to a writer.
+   *
+   * @param writer The writer receiving the text.
+   */
+  ExportBuffer(Writer writer) {
+    super();
+    this.chars = new char[BUFFER_SIZE];
+    this.writer = writer;
+    this.channel = null;
+    this.encoder = null;
+    this.bytes = null;
+  }
+
+  /**
+   * Constructs a new {@code ExportBuffer} writing UTF-8 text to a channel.
+   *
+   * @param channel The channel receiving the encoded text.
+   */
+  ExportBuffer(WritableByteChannel channel) {
+    super();
+    this.chars = new char[BUFFER_SIZE];
+    this.writer = null;
+    this.channel = channel;
+    this.encoder = StandardCharsets.UTF_8.newEncoder();
+    this.bytes = ByteBuffer.allocateDirect(BUFFER_SIZE);
+  }
+
+  /**
+   * Appends a character.
+   *
+   * @param c The character.
+   * @return this buffer.
+   * @throws IOException if the pending text could not be written.
+   */
+  ExportBuffer append(char c) throws IOException {
+    if (length == chars.length) {
+      drain(false);
+    }
+    chars[length++] = c;
+    return this;
+  }
+
+  /**
+   * Appends a string.
+   *
+   * @param text The string.
+   * @return this buffer.
+   * @throws IOException if the pending text could not be written.
+   */
+  ExportBuffer append(String text) throws IOException {
+    for (int i = 0; i < text.length(); i++) {
+      append(text.charAt(i));
+    }
+    return this;
+  }
+
+  /**
+   * Appends a date as {@code yyyy-MM-dd}, or as {@code yyyyMMdd} when compact.
+   *
+   * @param epochDay The date, as an epoch day of a year from 0 to 9999.
+   * @param compact  Whether to leave out the separators.
+   * @return this buffer.
+   * @throws IOException if the pending text could not be written.
+   */
+  ExportBuffer appendDate(int epochDay, boolean compact) throws IOException {
+    final int packedDate = EpochDays.toPackedDate(epochDay);
+    appendDigits(packedDate / 10000, 4);
+    if (!compact) {
+      append('-');
+    }
+    appendDigits(packedDate / 100 % 100, 2);
+    if (!compact) {
+      append('-');
+    }
+    return appendDigits(packedDate % 100, 2);
+  }
+
+  /**
+   * Appends a zero padded, non-negative number.
+   *
+   * @param value The number.
+   * @param width The number of digits.
+   * @return this buffer.
+   * @throws IOException if the pending text could not be written.
+   */
+  ExportBuffer appendDigits(int value, int width) throws IOException {
+    int divisor = 1;
+    for (int i = 1; i < width; i++) {
+      divisor *= 10;
+    }
+    for (; divisor > 0; divisor /= 10) {
+      append((char) ('0' + value / divisor % 10));
+    }
+    return this;
+  }
+
+  /**
+   * Writes all pending text.
+   *
+   * @throws IOException if the text could not be written.
+   */
+  void flush() throws IOException {
+    drain(true);
+    if (writer != null) {
+      writer.flush();
+    }
+  }
+
+  /**
+   * Writes the pending characters. When writing to a channel, a trailing high
+   * surrogate is kept pending until its pair arrives, unless this is the end of
+   * the text.
+   *
+   * @param endOfInput Whether no more text will be appended.
+   * @throws IOException if the text could not be written.
+   */
+  private void drain(boolean endOfInput) throws IOException {
+    if (writer != null) {
+      writer.write(chars, 0, length);
+      length = 0;
+      return;
+    }
+    final CharBuffer pending = CharBuffer.wrap(chars, 0, length);
+    CoderResult result;
+    do {
+      result = encoder.encode(pending, bytes, endOfInput);
+      if (result.isError()) {
+        result.throwException();
+      }
+      writeBytes();
+    } while (result.isOverflow());
+    if (endOfInput) {
+      while (encoder.flush(bytes).isOverflow()) {
+        writeBytes();
+      }
+      writeBytes();
+      encoder.reset();
+    }
+    length = pending.remaining();
+    System.arraycopy(chars, pending.position(), chars, 0, length);
+  }
+
+  /**
+   * Writes the encoded bytes to the channel.
+   *
+   * @throws IOException if the bytes could not be written.
+   */
+  private void writeBytes() throws IOException {
+    // Called through Buffer, so the class also links on Java 8 runtimes.
+    ((Buffer) bytes).flip();
+    while (bytes.hasRemaining()) {
+      channel.write(bytes);
+    }
+    ((Buffer) bytes).clear();
+  }
+}
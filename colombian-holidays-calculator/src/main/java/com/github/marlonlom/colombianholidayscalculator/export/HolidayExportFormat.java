@@ -0,0 +1,208 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.export;
+
+import com.github.marlonlom.colombianholidayscalculator.domain.Holiday;
+
+import java.io.IOException;
+
+/**
+ * Text formats supported by {@link HolidayExporter}. Every format is written as
+ * UTF-8 when exporting to bytes.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public enum HolidayExportFormat {
+
+  /**
+   * Comma-separated values (RFC 4180): a {@code date,id,name} header, then one
+   * CRLF-terminated record per holiday, with ISO dates.
+   */
+  CSV {
+    @Override
+    void writeHeader(ExportBuffer out) throws IOException {
+      out.append("date,id,name\r\n");
+    }
+
+    @Override
+    void writeHoliday(ExportBuffer out, Holiday holiday, String name, String timestamp) throws IOException {
+      out.appendDate(holiday.getEpochDay(), false).append(',');
+      appendCsvField(out, holiday.getId());
+      out.append(',');
+      appendCsvField(out, name);
+      out.append("\r\n");
+    }
+  },
+
+  /**
+   * iCalendar (RFC 5545): one calendar holding an all-day, transparent event
+   * per holiday. Content lines are folded at 75 octets.
+   */
+  ICALENDAR {
+    @Override
+    void writeHeader(ExportBuffer out) throws IOException {
+      out.append("BEGIN:VCALENDAR\r\nVERSION:2.0\r\nPRODID:-//marlonlom//Cherph 2.0.0//ES\r\n")
+        .append("CALSCALE:GREGORIAN\r\nMETHOD:PUBLISH\r\n");
+    }
+
+    @Override
+    void writeHoliday(ExportBuffer out, Holiday holiday, String name, String timestamp) throws IOException {
+      out.append("BEGIN:VEVENT\r\nUID:").appendDate(holiday.getEpochDay(), true).append('-');
+      final int lineOctets = appendICalendarText(out, holiday.getId(), "UID:YYYYMMDD-".length());
+      appendICalendarText(out, "@cherph.marlonlom.github.com", lineOctets);
+      out.append("\r\nDTSTAMP:").append(timestamp)
+        .append("\r\nDTSTART;VALUE=DATE:").appendDate(holiday.getEpochDay(), true)
+        .append("\r\nDTEND;VALUE=DATE:").appendDate(holiday.getEpochDay() + 1, true)
+        .append("\r\nSUMMARY:");
+      appendICalendarText(out, name, "SUMMARY:".length());
+      out.append("\r\nTRANSP:TRANSPARENT\r\nEND:VEVENT\r\n");
+    }
+
+    @Override
+    void writeFooter(ExportBuffer out) throws IOException {
+      out.append("END:VCALENDAR\r\n");
+    }
+  },
+
+  /**
+   * JSON lines: one {@code {"date":...,"id":...,"name":...}} object per line,
+   * with ISO dates.
+   */
+  JSON_LINES {
+    @Override
+    void writeHoliday(ExportBuffer out, Holiday holiday, String name, String timestamp) throws IOException {
+      out.append("{\"date\":\"").appendDate(holiday.getEpochDay(), false).append("\",\"id\":\"");
+      appendJsonText(out, holiday.getId());
+      out.append("\",\"name\":\"");
+      appendJsonText(out, name);
+      out.append("\"}\n");
+    }
+  };
+
+  /**
+   * Writes a CSV field, quoted if it holds a comma, a quote or a line break.
+   *
+   * @param out   The output buffer.
+   * @param value The field value.
+   * @throws IOException if the text could not be written.
+   */
+  private static void appendCsvField(ExportBuffer out, String value) throws IOException {
+    boolean quoted = false;
+    for (int i = 0; i < value.length() && !quoted; i++) {
+      final char c = value.charAt(i);
+      quoted = c == ',' || c == '"' || c == '\r' || c == '\n';
+    }
+    if (!quoted) {
+      out.append(value);
+      return;
+    }
+    out.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      if (c == '"') {
+        out.append('"');
+      }
+      out.append(c);
+    }
+    out.append('"');
+  }
+
+  /**
+   * Writes an iCalendar text value, escaping backslashes, semicolons, commas
+   * and line breaks, and folding the content line at 75 octets.
+   *
+   * @param out        The output buffer.
+   * @param value      The text value.
+   * @param lineOctets The number of octets already written on the line.
+   * @return the number of octets written on the last line.
+   * @throws IOException if the text could not be written.
+   */
+  private static int appendICalendarText(ExportBuffer out, String value, int lineOctets) throws IOException {
+    int octetsOnLine = lineOctets;
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      if (c == '\r') {
+        continue;
+      }
+      final boolean escaped = c == '\\' || c == ';' || c == ',' || c == '\n';
+      final boolean pair = Character.isHighSurrogate(c) && i + 1 < value.length();
+      final int octets = escaped ? 2 : c < 0x80 ? 1 : c < 0x800 ? 2 : pair ? 4 : 3;
+      if (octetsOnLine + octets > 75) {
+        out.append("\r\n ");
+        octetsOnLine = 1;
+      }
+      octetsOnLine += octets;
+      if (escaped) {
+        out.append('\\').append(c == '\n' ? 'n' : c);
+      } else {
+        out.append(c);
+        if (pair) {
+          out.append(value.charAt(++i));
+        }
+      }
+    }
+    return octetsOnLine;
+  }
+
+  /**
+   * Writes the contents of a JSON string, escaping quotes, backslashes and
+   * control characters.
+   *
+   * @param out   The output buffer.
+   * @param value The text value.
+   * @throws IOException if the text could not be written.
+   */
+  private static void appendJsonText(ExportBuffer out, String value) throws IOException {
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        out.append('\\').append(c);
+      } else if (c == '\n') {
+        out.append("\\n");
+      } else if (c == '\r') {
+        out.append("\\r");
+      } else if (c == '\t') {
+        out.append("\\t");
+      } else if (c < 0x20) {
+        out.append("\\u").appendDigits(0, 2).append(Character.forDigit(c >> 4, 16))
+          .append(Character.forDigit(c & 0xF, 16));
+      } else {
+        out.append(c);
+      }
+    }
+  }
+
+  /**
+   * Writes the text preceding the holidays.
+   *
+   * @param out The output buffer.
+   * @throws IOException if the text could not be written.
+   */
+  void writeHeader(ExportBuffer out) throws IOException {
+    // Nothing precedes the holidays by default.
+  }
+
+  /**
+   * Writes a holiday.
+   *
+   * @param out       The output buffer.
+   * @param holiday   The holiday.
+   * @param name      The holiday name.
+   * @param timestamp The export time, as an RFC 5545 UTC date-time.
+   * @throws IOException if the text could not be written.
+   */
+  abstract void writeHoliday(ExportBuffer out, Holiday holiday, String name, String timestamp) throws IOException;
+
+  /**
+   * Writes the text following the holidays.
+   *
+   * @param out The output buffer.
+   * @throws IOException if the text could not be written.
+   */
+  void writeFooter(ExportBuffer out) throws IOException {
+    // Nothing follows the holidays by default.
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.export;
+
+import com.github.marlonlom.colombianholidayscalculator.config.HolidayNames;
+import com.github.marlonlom.colombianholidayscalculator.domain.Holiday;
+import com.github.marlonlom.colombianholidayscalculator.domain.HolidayDates;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Clock;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streaming exporter of holidays to iCalendar, CSV or JSON lines. <br>
+ * Holidays are pulled one at a time from an iterator, such as the one of
+ * {@code HolidaysCalculator.streamHolidays(from, to)}, and written through a
+ * fixed-size buffer, so exporting a thousand years takes the same memory as
+ * exporting one, and no intermediate collection is built. Holidays of custom
+ * rules are named by their rule identifier. The target is not closed.
+ * Instances are immutable and thread-safe.
+ *
+ * <pre>
+ * HolidayExporter exporter = HolidayExporter.of(HolidayExportFormat.ICALENDAR, Locale.ENGLISH);
+ * try (FileChannel channel = FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING)) {
+ *   exporter.export(calculator.streamHolidays(from, to).iterator(), channel);
+ * }
+ * </pre>
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public final class HolidayExporter {
+
+  /**
+   * Formatter of the iCalendar {@code DTSTAMP} property.
+   */
+  private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+  /**
+   * The output format.
+   */
+  private final HolidayExportFormat format;
+
+  /**
+   * The holiday names, indexed by {@code HolidayDates} ordinal.
+   */
+  private final List<String> names;
+
+  /**
+   * The clock providing the export time.
+   */
+  private final Clock clock;
+
+  /**
+   * Constructs a new {@code HolidayExporter} instance.
+   *
+   * @param format The output format.
+   * @param names  The holiday names, indexed by {@code HolidayDates} ordinal
+   *               (e.g., {@code ConfigSnapshot.getHolidayDetails()}); holidays
+   *               without a name are left out.
+   * @param clock  The clock providing the export time, written by iCalendar.
+   */
+  public HolidayExporter(HolidayExportFormat format, List<String> names, Clock clock) {
+    super();
+    this.format = format;
+    this.names = names;
+    this.clock = clock;
+  }
+
+  /**
+   * Returns an exporter naming holidays from the {@link HolidayNames} of a
+   * locale.
+   *
+   * @param format The output format.
+   * @param locale The language of the holiday names.
+   * @return A new exporter, using the system clock.
+   */
+  public static HolidayExporter of(HolidayExportFormat format, Locale locale) {
+    return new HolidayExporter(format, HolidayNames.of(locale).asList(), Clock.systemUTC());
+  }
+
+  /**
+   * Exports holidays as UTF-8 to an output stream, which is flushed but not
+   * closed.
+   *
+   * @param holidays     The holidays to export, in the order to write them.
+   * @param outputStream The target stream.
+   * @return the number of exported holidays.
+   * @throws IOException if the holidays could not be written.
+   */
+  public long export(Iterator<Holiday> holidays, OutputStream outputStream) throws IOException {
+    final long count = export(holidays, new ExportBuffer(Channels.newChannel(outputStream)));
+    outputStream.flush();
+    return count;
+  }
+
+  /**
+   * Exports holidays as UTF-8 to a channel, which is not closed.
+   *
+   * @param holidays The holidays to export, in the order to write them.
+   * @param channel  The target channel.
+   * @return the number of exported holidays.
+   * @throws IOException if the holidays could not be written.
+   */
+  public long export(Iterator<Holiday> holidays, WritableByteChannel channel) throws IOException {
+    return export(holidays, new ExportBuffer(channel));
+  }
+
+  /**
+   * Exports holidays to a writer, which is flushed but not closed.
+   *
+   * @param holidays The holidays to export, in the order to write them.
+   * @param writer   The target writer.
+   * @return the number of exported holidays.
+   * @throws IOException if the holidays could not be written.
+   */
+  public long export(Iterator<Holiday> holidays, Writer writer) throws IOException {
+    return export(holidays, new ExportBuffer(writer));
+  }
+
+  /**
+   * Returns the output format.
+   *
+   * @return the format.
+   */
+  public HolidayExportFormat getFormat() {
+    return format;
+  }
+
+  /**
+   * Writes the holidays through an output buffer.
+   *
+   * @param holidays The holidays to export.
+   * @param out      The output buffer.
+   * @return the number of exported holidays.
+   * @throws IOException if the holidays could not be written.
+   */
+  private long export(Iterator<Holiday> holidays, ExportBuffer out) throws IOException {
+    final String timestamp = TIMESTAMP_FORMATTER.format(ZonedDateTime.now(clock).withZoneSameInstant(ZoneOffset.UTC));
+    long count = 0L;
+    format.writeHeader(out);
+    while (holidays.hasNext()) {
+      final Holiday holiday = holidays.next();
+      final HolidayDates holidayDate = holiday.getHolidayDate();
+      if (holidayDate == null) {
+        format.writeHoliday(out, holiday, holiday.getId(), timestamp);
+        count++;
+      } else if (holidayDate.ordinal() < names.size()) {
+        format.writeHoliday(out, holiday, names.get(holidayDate.ordinal()), timestamp);
+        count++;
+      }
+    }
+    format.writeFooter(out);
+    out.flush();
+    return count;
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.util;
+
+/**
+ * Allocation-lean formatter of epoch days, for numeric date patterns. <br>
+ * Supports patterns made of {@code yyyy}, {@code MM}, {@code dd} and literal
+ * characters other than letters (e.g., {@code "dd/MM/yyyy"} or
+ * {@code "yyyy-MM-dd"}), which cover the usual holiday date formats. Each
+ * formatted date costs a single character array and string, with no
+ * intermediate date or field objects. Years from 1 to 9999 are supported (see
+ * {@link #canFormat(int)}). Instances are immutable and thread-safe.
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public final class EpochDayFormat {
+
+  /**
+   * Token standing for a four digit year.
+   */
+  private static final char YEAR = 'y';
+
+  /**
+   * Token standing for a two digit month.
+   */
+  private static final char MONTH = 'M';
+
+  /**
+   * Token standing for a two digit day of the month.
+   */
+  private static final char DAY = 'd';
+
+  /**
+   * First epoch day that can be formatted (0001-01-01).
+   */
+  private static final int MIN_EPOCH_DAY = EpochDays.of(1, 1, 1);
+
+  /**
+   * Last epoch day that can be formatted (9999-12-31).
+   */
+  private static final int MAX_EPOCH_DAY = EpochDays.of(9999, 12, 31);
+
+  /**
+   * The compiled pattern: one token per output character, where the first
+   * character of a field holds the field token, its remaining characters hold
+   * {@code '\0'}, and literal characters hold themselves.
+   */
+  private final char[] template;
+
+  /**
+   * Constructs a new {@code EpochDayFormat} instance.
+   *
+   * @param template The compiled pattern.
+   */
+  private EpochDayFormat(char[] template) {
+    super();
+    this.template = template;
+  }
+
+  /**
+   * Checks whether an epoch day can be formatted, that is, whether its year has
+   * four digits at most.
+   *
+   * @param epochDay The number of days since 1970-01-01.
+   * @return {@code true} if the year is from 1 to 9999, {@code false}
+   * otherwise.
+   */
+  public static boolean canFormat(int epochDay) {
+    return epochDay >= MIN_EPOCH_DAY && epochDay <= MAX_EPOCH_DAY;
+  }
+
+  /**
+   * Compiles a date pattern.
+   *
+   * @param pattern The date pattern (e.g., {@code "dd/MM/yyyy"}).
+   * @return The compiled format, or {@code null} if the pattern is not supported
+   * and must be handled by a general purpose formatter.
+   */
+  public static EpochDayFormat compile(String pattern) {
+    if (pattern == null || pattern.isEmpty()) {
+      return null;
+    }
+    final char[] template = new char[pattern.length()];
+    int pos = 0;
+    while (pos < pattern.length()) {
+      final char current = pattern.charAt(pos);
+      int end = pos;
+      while (end < pattern.length() && pattern.charAt(end) == current) {
+        end++;
+      }
+      final int width = end - pos;
+      if (current == YEAR && width == 4 || (current == MONTH || current == DAY) && width == 2) {
+        template[pos] = current;
+      } else if (Character.isLetter(current) || current == '\'') {
+        return null;
+      } else {
+        for (int i = pos; i < end; i++) {
+          template[i] = current;
+        }
+      }
+      pos = end;
+    }
+    return new EpochDayFormat(template);
+  }
+
+  /**
+   * Formats an epoch day.
+   *
+   * @param epochDay The number of days since 1970-01-01, for years 1 to 9999.
+   * @return The formatted date.
+   */
+  public String format(int epochDay) {
+    final int packedDate = EpochDays.toPackedDate(epochDay);
+    final char[] chars = new char[template.length];
+    for (int pos = 0; pos < template.length; pos++) {
+      switch (template[pos]) {
+        case YEAR:
+          writeDigits(chars, pos, packedDate / 10000, 4);
+          pos += 3;
+          break;
+        case MONTH:
+          writeDigits(chars, pos, packedDate / 100 % 100, 2);
+          pos++;
+          break;
+        case DAY:
+          writeDigits(chars, pos, packedDate % 100, 2);
+          pos++;
+          break;
+        default:
+          chars[pos] = template[pos];
+      }
+    }
+    return new String(chars);
+  }
+
+  /**
+   * Writes a zero padded number.
+   *
+   * @param chars  The output characters.
+   * @param offset The position of the first digit.
+   * @param value  The non-negative number to write.
+   * @param width  The number of digits.
+   */
+  private static void writeDigits(char[] chars, int offset, int value, int width) {
+    for (int pos = offset + width - 1; pos >= offset; pos--) {
+      chars[pos] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+  }
+}
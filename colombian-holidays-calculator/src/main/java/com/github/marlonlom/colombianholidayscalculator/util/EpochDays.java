@@ -0,0 +1,272 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.util;
+
+/**
+ * Primitive calendar core, working on epoch days (days since 1970-01-01) of the
+ * proleptic Gregorian calendar. <br>
+ * Every method works on {@code int} values and allocates no objects, so
+ * holiday rules can be evaluated without going through Joda-Time,
+ * {@code java.time} or {@code java.util.Date}. Conversions to those types are
+ * left to the API boundary. Dates can also be packed as {@code yyyymmdd}
+ * integers (e.g., {@code 20241225}).
+ *
+ * @author marlonlom
+ * @version 2.0.0
+ */
+public final class EpochDays {
+
+  /**
+   * Number of days in a 400 year Gregorian cycle.
+   */
+  private static final int DAYS_PER_CYCLE = 146097;
+
+  /**
+   * Number of days from 0000-03-01 to 1970-01-01.
+   */
+  private static final int DAYS_0000_TO_1970 = 719468;
+
+  /**
+   * Number of milliseconds of a day.
+   */
+  private static final long MILLIS_PER_DAY = 86_400_000L;
+
+  /**
+   * Constructs a new {@code EpochDays} instance.
+   */
+  private EpochDays() {
+    super();
+  }
+
+  /**
+   * Returns the day of the month of an epoch day.
+   *
+   * @param epochDay The epoch day.
+   * @return The day of the month, from 1 to 31.
+   */
+  public static int dayOfMonth(int epochDay) {
+    return (int) (toFields(epochDay) & 0xFF);
+  }
+
+  /**
+   * Returns the day of the year of an epoch day.
+   *
+   * @param epochDay The epoch day.
+   * @return The day of the year, from 1 to 366.
+   */
+  public static int dayOfYear(int epochDay) {
+    return epochDay - of(year(epochDay), 1, 1) + 1;
+  }
+
+  /**
+   * Returns the ISO day of the week of an epoch day.
+   *
+   * @param epochDay The epoch day.
+   * @return The day of the week, from 1 (Monday) to 7 (Sunday).
+   */
+  public static int dayOfWeek(int epochDay) {
+    return Math.floorMod(epochDay + 3, 7) + 1;
+  }
+
+  /**
+   * Calculates the date of Easter Sunday for a given year, using the anonymous
+   * Gregorian algorithm (Meeus/Jones/Butcher). It is pure integer arithmetic,
+   * with no table and no branch, and is valid for every year of the proleptic
+   * Gregorian calendar.
+   *
+   * @param year The year for which to calculate Easter Sunday.
+   * @return The epoch day of Easter Sunday.
+   */
+  public static int easterSunday(int year) {
+    final int a = Math.floorMod(year, 19);
+    final int b = Math.floorDiv(year, 100);
+    final int c = Math.floorMod(year, 100);
+    final int f = Math.floorDiv(b + 8, 25);
+    final int g = Math.floorDiv(b - f + 1, 3);
+    final int h = Math.floorMod(19 * a + b - Math.floorDiv(b, 4) - g + 15, 30);
+    final int l = Math.floorMod(32 + 2 * Math.floorMod(b, 4) + 2 * (c >> 2) - h - (c & 3), 7);
+    final int m = (a + 11 * h + 22 * l) / 451;
+    return of(year, 3, 22) + h + l - 7 * m;
+  }
+
+  /**
+   * Calculates the date of Easter Sunday for a given year, using the Gauss
+   * algorithm, whose m/n constants are only tabulated for 1583 to 2299. Kept to
+   * cross-check {@link #easterSunday(int)}, which should be preferred.
+   *
+   * @param year The year for which to calculate Easter Sunday, from 1583 to
+   *             2299.
+   * @return The epoch day of Easter Sunday.
+   * @throws IllegalArgumentException if the year is out of range.
+   */
+  public static int gaussEasterSunday(int year) {
+    int m = 24;
+    int n = 5;
+    if (year < 1583 || year > 2299) {
+      throw new IllegalArgumentException("Year out of the Gauss Easter tables: " + year);
+    } else if (year <= 1699) {
+      m = 22;
+      n = 2;
+    } else if (year <= 1799) {
+      m = 23;
+      n = 3;
+    } else if (year <= 1899) {
+      m = 23;
+      n = 4;
+    } else if (year >= 2100 && year <= 2199) {
+      m = 24;
+      n = 6;
+    } else if (year >= 2200 && year <= 2299) {
+      m = 25;
+      n = 0;
+    }
+    final int a = Math.floorMod(year, 19);
+    final int b = Math.floorMod(year, 4);
+    final int c = Math.floorMod(year, 7);
+    final int d = ((a * 19) + m) % 30;
+    final int e = ((2 * b) + (4 * c) + (6 * d) + n) % 7;
+    int day = d + e;
+    if (day < 10) { // March
+      return of(year, 3, day + 22);
+    }
+    day -= 9; // April
+    if (day == 26) {
+      day = 19;
+    } else if (day == 25 && d == 28 && e == 6 && a > 10) {
+      day = 18;
+    }
+    return of(year, 4, day);
+  }
+
+  /**
+   * Checks whether a year is a leap year.
+   *
+   * @param year The year to check.
+   * @return {@code true} if the year has 366 days, {@code false} otherwise.
+   */
+  public static boolean isLeapYear(int year) {
+    return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+  }
+
+  /**
+   * Returns the number of days of a year.
+   *
+   * @param year The year.
+   * @return 365, or 366 for leap years.
+   */
+  public static int lengthOfYear(int year) {
+    return isLeapYear(year) ? 366 : 365;
+  }
+
+  /**
+   * Returns the month of an epoch day.
+   *
+   * @param epochDay The epoch day.
+   * @return The month of the year, from 1 to 12.
+   */
+  public static int monthOfYear(int epochDay) {
+    return (int) (toFields(epochDay) >>> 8 & 0xFF);
+  }
+
+  /**
+   * Calculates the nearest date to a given epoch day that falls on a specific
+   * day of the week. The candidates are the given day of the week within the
+   * same Monday-based week, and the one a week away from it towards the
+   * starting date; the closest one wins, the later one on ties.
+   *
+   * @param epochDay  The starting epoch day.
+   * @param dayOfWeek The ISO day of the week, from 1 (Monday) to 7 (Sunday).
+   * @return The epoch day of the nearest date on the given day of the week.
+   */
+  public static int nearestDayOfWeek(int epochDay, int dayOfWeek) {
+    final int sameWeek = epochDay + dayOfWeek - dayOfWeek(epochDay);
+    final int otherWeek = sameWeek < epochDay ? sameWeek + 7 : sameWeek - 7;
+    return Math.abs(sameWeek - epochDay) < Math.abs(otherWeek - epochDay) ? sameWeek : otherWeek;
+  }
+
+  /**
+   * Returns the epoch day of a date.
+   *
+   * @param year        The year.
+   * @param monthOfYear The month of the year, from 1 to 12.
+   * @param dayOfMonth  The day of the month, from 1 to 31.
+   * @return The number of days since 1970-01-01.
+   */
+  public static int of(int year, int monthOfYear, int dayOfMonth) {
+    final int y = monthOfYear <= 2 ? year - 1 : year;
+    final int era = Math.floorDiv(y, 400);
+    final int yearOfEra = y - era * 400;
+    final int dayOfYear = (153 * (monthOfYear + (monthOfYear > 2 ? -3 : 9)) + 2) / 5 + dayOfMonth - 1;
+    final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970;
+  }
+
+  /**
+   * Returns the local date of an instant at a fixed offset from UTC, with plain
+   * arithmetic.
+   *
+   * @param epochMillis   The instant, as milliseconds since 1970-01-01T00:00Z.
+   * @param offsetSeconds The offset from UTC, in seconds (e.g., {@code -18000}
+   *                      for Colombia).
+   * @return The epoch day of the local date.
+   * @throws ArithmeticException if the date does not fit an {@code int}.
+   */
+  public static int ofEpochMilli(long epochMillis, int offsetSeconds) {
+    return Math.toIntExact(Math.floorDiv(epochMillis + offsetSeconds * 1000L, MILLIS_PER_DAY));
+  }
+
+  /**
+   * Returns the epoch day of a packed {@code yyyymmdd} date.
+   *
+   * @param packedDate The packed date (e.g., {@code 20241225}).
+   * @return The number of days since 1970-01-01.
+   */
+  public static int ofPackedDate(int packedDate) {
+    return of(packedDate / 10000, packedDate / 100 % 100, packedDate % 100);
+  }
+
+  /**
+   * Returns the date of an epoch day, packed as {@code yyyymmdd}. Only years
+   * from 0 to 214747 can be packed.
+   *
+   * @param epochDay The epoch day.
+   * @return The packed date (e.g., {@code 20241225}).
+   */
+  public static int toPackedDate(int epochDay) {
+    final long fields = toFields(epochDay);
+    return (int) (fields >> 32) * 10000 + (int) (fields >>> 8 & 0xFF) * 100 + (int) (fields & 0xFF);
+  }
+
+  /**
+   * Splits an epoch day into its year, month and day of the month, using floor
+   * arithmetic over 400 year eras, so years before 1 are handled too.
+   *
+   * @param epochDay the epoch day
+   * @return the year in the high 32 bits, the month in bits 8 to 15 and the
+   * day of the month in bits 0 to 7
+   */
+  private static long toFields(int epochDay) {
+    final long z = (long) epochDay + DAYS_0000_TO_1970;
+    final int era = (int) Math.floorDiv(z, (long) DAYS_PER_CYCLE);
+    final int dayOfEra = (int) (z - (long) era * DAYS_PER_CYCLE);
+    final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    final int mp = (5 * dayOfYear + 2) / 153;
+    final int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+    final int month = mp < 10 ? mp + 3 : mp - 9;
+    final int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+    return (long) year << 32 | month << 8 | day;
+  }
+
+  /**
+   * Returns the year of an epoch day.
+   *
+   * @param epochDay The epoch day.
+   * @return The year.
+   */
+  public static int year(int epochDay) {
+    return (int) (toFields(epochDay) >> 32);
+  }
+}
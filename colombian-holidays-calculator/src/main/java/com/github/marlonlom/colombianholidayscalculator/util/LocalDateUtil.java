@@ -4,14 +4,21 @@
  */
 package com.github.marlonlom.colombianholidayscalculator.util;
 
-import org.joda.time.Days;
 import org.joda.time.LocalDate;
 
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
 import java.util.Date;
 
 /**
  * Utility class for {@link java.time.LocalDate} operations. This class provides
- * helper methods for common tasks involving dates.
+ * helper methods for common tasks involving dates. <br>
+ * Conversions between dates and instants ({@link #prepareDate(int)},
+ * {@link #toEpochDay(long)}) use an explicit zone, by default the fixed
+ * colombian offset {@link #COLOMBIA_OFFSET}, never the JVM default zone. Fixed
+ * offsets are applied with plain arithmetic.
  *
  * @author marlonlom
  * @version 2.0.0
@@ -19,66 +26,79 @@ import java.util.Date;
 public final class LocalDateUtil {
 
   /**
-   * Constructs a new {@code LocalDateUtil} instance.
+   * The offset of Colombia from UTC, which observes no daylight saving time.
+   */
+  public static final ZoneOffset COLOMBIA_OFFSET = ZoneOffset.ofHours(-5);
+
+  /**
+   * Number of seconds of a day.
+   */
+  private static final long SECONDS_PER_DAY = 86_400L;
+
+  /**
+   * The zone used to convert between dates and instants.
+   */
+  private final ZoneId zone;
+
+  /**
+   * The rules of the zone, or {@code null} if the zone has a fixed offset.
+   */
+  private final ZoneRules zoneRules;
+
+  /**
+   * The offset of the zone in seconds, if the zone has a fixed offset.
+   */
+  private final int offsetSeconds;
+
+  /**
+   * Constructs a new {@code LocalDateUtil} instance, using the colombian
+   * offset.
    */
   public LocalDateUtil() {
+    this(COLOMBIA_OFFSET);
+  }
+
+  /**
+   * Constructs a new {@code LocalDateUtil} instance, using the given zone to
+   * convert between dates and instants.
+   *
+   * @param zone The zone (e.g., {@link #COLOMBIA_OFFSET} or
+   *             {@code ZoneId.of("America/Bogota")}).
+   * @throws IllegalArgumentException if the zone is {@code null}.
+   */
+  public LocalDateUtil(ZoneId zone) {
     super();
+    if (zone == null) {
+      throw new IllegalArgumentException("Zone cannot be null.");
+    }
+    final ZoneRules rules = zone.getRules();
+    this.zone = zone;
+    this.zoneRules = rules.isFixedOffset() ? null : rules;
+    this.offsetSeconds = rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH).getTotalSeconds() : 0;
   }
 
   /**
-   * Calculates the date of Easter Sunday for a given year. This method uses the
-   * Gauss algorithm to determine the date.
+   * Calculates the date of Easter Sunday for a given year, of any proleptic
+   * Gregorian year.
    *
    * @param year The year for which to calculate Easter Sunday.
    * @return A {@link LocalDate} representing Easter Sunday for the specified
    * year.
    */
   public LocalDate calculateEasterDay(int year) {
+    return toLocalDate(calculateEasterEpochDay(year));
+  }
 
-    int a, b, c, d, e;
-    int m = 24, n = 5;
-
-    if (year >= 1583 && year <= 1699) {
-      m = 22;
-      n = 2;
-    } else if (year >= 1700 && year <= 1799) {
-      m = 23;
-      n = 3;
-    } else if (year >= 1800 && year <= 1899) {
-      m = 23;
-      n = 4;
-    } else if (year >= 1900 && year <= 2099) {
-      m = 24;
-      n = 5;
-    } else if (year >= 2100 && year <= 2199) {
-      m = 24;
-      n = 6;
-    } else if (year >= 2200 && year <= 2299) {
-      m = 25;
-      n = 0;
-    }
-
-    a = year % 19;
-    b = year % 4;
-    c = year % 7;
-    d = ((a * 19) + m) % 30;
-    e = ((2 * b) + (4 * c) + (6 * d) + n) % 7;
-
-    int dia = d + e;
-
-    if (dia < 10) { // March
-      return new LocalDate(year, 3, dia + 22);
-    } else // April
-    {
-      if (dia == 26) {
-        dia = 19;
-      } else if (dia == 25 && d == 28 && e == 6 && a > 10) {
-        dia = 18;
-      } else {
-        dia -= 9;
-      }
-      return new LocalDate(year, 4, dia);
-    }
+  /**
+   * Calculates the date of Easter Sunday for a given year, without allocating
+   * any date object.
+   *
+   * @param year The year for which to calculate Easter Sunday.
+   * @return The epoch day of Easter Sunday for the specified year.
+   * @see EpochDays#easterSunday(int)
+   */
+  public int calculateEasterEpochDay(int year) {
+    return EpochDays.easterSunday(year);
   }
 
   /**
@@ -115,17 +135,41 @@ public final class LocalDateUtil {
    * falls on the specified day of the week.
    */
   public LocalDate getNearestDayOfWeek(LocalDate t0, int dayOfWeek) {
-    LocalDate t1 = t0.withDayOfWeek(dayOfWeek);
-    LocalDate t2 = t1.isBefore(t0) ? t1.plusWeeks(1) : t1.minusWeeks(1);
-    return Math.abs(Days.daysBetween(t1, t0).getDays()) < Math.abs(Days.daysBetween(t2, t0).getDays()) ? t1 : t2;
+    final int epochDay = EpochDays.of(t0.getYear(), t0.getMonthOfYear(), t0.getDayOfMonth());
+    return toLocalDate(EpochDays.nearestDayOfWeek(epochDay, dayOfWeek));
+  }
+
+  /**
+   * Calculates the nearest date to a specified starting date that falls on a
+   * given day of the week, without allocating any date object.
+   *
+   * @param year        The year of the starting date.
+   * @param monthOfYear The month of the starting date (1-12).
+   * @param dayOfMonth  The day of the month of the starting date.
+   * @param dayOfWeek   The day of the week (1 for Monday, 7 for Sunday) to find
+   *                    the nearest occurrence of.
+   * @return The epoch day of the nearest date to the specified starting date
+   * that falls on the given day of the week.
+   * @see EpochDays#nearestDayOfWeek(int, int)
+   */
+  public int getNearestDayOfWeekEpochDay(int year, int monthOfYear, int dayOfMonth, int dayOfWeek) {
+    return EpochDays.nearestDayOfWeek(EpochDays.of(year, monthOfYear, dayOfMonth), dayOfWeek);
+  }
+
+  /**
+   * Returns the zone used to convert between dates and instants.
+   *
+   * @return the zone.
+   */
+  public ZoneId getZone() {
+    return zone;
   }
 
   /**
    * Prepares a {@code Date} object from the given year, month, and day.
    * <p>
-   * This method utilizes Joda-Time's {@code LocalDate} to construct a date
-   * without time components, then converts it to a standard
-   * {@code java.util.Date}.
+   * The date is validated by Joda-Time's {@code LocalDate}, then converted to a
+   * standard {@code java.util.Date} at midnight in the zone of this utility.
    * </p>
    *
    * @param year        The year (e.g., 2023).
@@ -136,6 +180,56 @@ public final class LocalDateUtil {
    */
   public Date prepareDate(int year, int monthOfYear, int dayOfMonth) {
     LocalDate nd = new LocalDate(year, monthOfYear, dayOfMonth);
-    return nd.toDate();
+    return prepareDate(EpochDays.of(nd.getYear(), nd.getMonthOfYear(), nd.getDayOfMonth()));
+  }
+
+  /**
+   * Prepares a {@code Date} object from the given epoch day, with time set to
+   * midnight (00:00:00) in the zone of this utility.
+   *
+   * @param epochDay The number of days since 1970-01-01.
+   * @return A {@code Date} object representing the specified date.
+   * @see #prepareDate(int, int, int)
+   */
+  public Date prepareDate(int epochDay) {
+    return new Date(toEpochMilli(epochDay));
+  }
+
+  /**
+   * Returns the local date of an instant in the zone of this utility. Fixed
+   * offsets are applied with plain arithmetic, so nothing is allocated.
+   *
+   * @param epochMillis The instant, as milliseconds since 1970-01-01T00:00Z.
+   * @return The number of days since 1970-01-01 of the local date.
+   */
+  public int toEpochDay(long epochMillis) {
+    if (zoneRules == null) {
+      return EpochDays.ofEpochMilli(epochMillis, offsetSeconds);
+    }
+    return EpochDays.ofEpochMilli(epochMillis, zoneRules.getOffset(Instant.ofEpochMilli(epochMillis))
+      .getTotalSeconds());
+  }
+
+  /**
+   * Returns the instant of midnight of a date in the zone of this utility.
+   *
+   * @param epochDay The number of days since 1970-01-01.
+   * @return The instant, as milliseconds since 1970-01-01T00:00Z.
+   */
+  public long toEpochMilli(int epochDay) {
+    if (zoneRules == null) {
+      return (epochDay * SECONDS_PER_DAY - offsetSeconds) * 1000L;
+    }
+    return java.time.LocalDate.ofEpochDay(epochDay).atStartOfDay(zone).toInstant().toEpochMilli();
+  }
+
+  /**
+   * Converts an epoch day to a Joda-Time {@code LocalDate}.
+   *
+   * @param epochDay The number of days since 1970-01-01.
+   * @return The matching {@link LocalDate}.
+   */
+  private static LocalDate toLocalDate(int epochDay) {
+    return new LocalDate(EpochDays.year(epochDay), EpochDays.monthOfYear(epochDay), EpochDays.dayOfMonth(epochDay));
   }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator;
+
+import com.github.marlonlom.colombianholidayscalculator.domain.HolidayRule;
+import com.github.marlonlom.colombianholidayscalculator.domain.HolidayRuleSet;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class BusinessDaysCalculatorTest {
+
+  private final HolidaysCalculator holidaysCalculator = new HolidaysCalculator();
+  private final BusinessDaysCalculator businessDaysCalculator = holidaysCalculator.getBusinessDaysCalculator();
+
+  private boolean isBusinessDay(LocalDate date) {
+    return date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY
+      && !holidaysCalculator.isHoliday(date);
+  }
+
+  private LocalDate addBusinessDaysDayByDay(LocalDate date, int days) {
+    final int step = days > 0 ? 1 : -1;
+    LocalDate result = date;
+    for (int remaining = Math.abs(days); remaining > 0; ) {
+      result = result.plusDays(step);
+      if (isBusinessDay(result)) {
+        remaining--;
+      }
+    }
+    return result;
+  }
+
+  @Test
+  public void shouldAddBusinessDaysAcrossHolidaysAndWeekends() {
+    assertEquals(LocalDate.of(2024, 4, 1), businessDaysCalculator.addBusinessDays(LocalDate.of(2024, 3, 27), 1));
+    assertEquals(LocalDate.of(2024, 3, 27), businessDaysCalculator.addBusinessDays(LocalDate.of(2024, 4, 1), -1));
+    assertEquals(LocalDate.of(2025, 1, 2), businessDaysCalculator.addBusinessDays(LocalDate.of(2024, 12, 31), 1));
+    assertEquals(LocalDate.of(2024, 12, 27), businessDaysCalculator.addBusinessDays(LocalDate.of(2024, 12, 28), -1));
+    assertEquals(LocalDate.of(2024, 12, 28), businessDaysCalculator.addBusinessDays(LocalDate.of(2024, 12, 28), 0));
+  }
+
+  @Test
+  public void shouldAgreeWithDayByDayCounting() {
+    final Random random = new Random(20240101L);
+    for (int i = 0; i < 200; i++) {
+      final LocalDate date = LocalDate.of(1990, 1, 1).plusDays(random.nextInt(365 * 40));
+      final int days = random.nextInt(1000) - 500;
+      final LocalDate expected = addBusinessDaysDayByDay(date, days);
+      final LocalDate actual = businessDaysCalculator.addBusinessDays(date, days);
+      assertEquals(date + " + " + days, expected, actual);
+      assertTrue(businessDaysCalculator.isBusinessDay(actual) || days == 0);
+      if (days > 0) {
+        assertEquals(days, businessDaysCalculator.businessDaysBetween(date, actual));
+      }
+    }
+  }
+
+  @Test
+  public void shouldCountCustomRuleDaysAsHolidays() {
+    HolidayRuleSet rules = HolidayRuleSet.builder()
+      .addAll(HolidayRuleSet.builtIn())
+      .add(HolidayRule.fixed("COMPANY_DAY", 9, 15))
+      .build();
+    HolidaysCalculator companyCalculator = new HolidaysCalculator(rules);
+    LocalDate companyDay = LocalDate.of(2025, 9, 15);
+    assertTrue(companyCalculator.isHoliday(companyDay));
+    assertFalse(holidaysCalculator.isHoliday(companyDay));
+    assertEquals(LocalDate.of(2025, 9, 16),
+      companyCalculator.getBusinessDaysCalculator().addBusinessDays(LocalDate.of(2025, 9, 12), 1));
+    assertEquals(companyDay, businessDaysCalculator.addBusinessDays(LocalDate.of(2025, 9, 12), 1));
+    assertEquals("COMPANY_DAY", companyCalculator.getHolidays(2025).getHolidays().get("15/09/2025"));
+    assertEquals(holidaysCalculator.getHolidays(2025).size() + 1, companyCalculator.getHolidays(2025).size());
+    assertTrue(companyCalculator.streamHolidays(companyDay, companyDay)
+      .anyMatch(holiday -> "COMPANY_DAY".equals(holiday.getId())));
+  }
+
+  @Test
+  public void shouldFindCustomHolidaysAcrossEmptyYears() {
+    HolidaysCalculator decreeCalculator = new HolidaysCalculator(HolidayRuleSet.builder()
+      .add(HolidayRule.fixed("DECREE_2025", 3, 24).inYears(2025, 2025))
+      .build());
+    assertEquals(LocalDate.of(2025, 3, 24), decreeCalculator.nextHoliday(LocalDate.of(2020, 6, 1)));
+    assertEquals(LocalDate.of(2025, 3, 24), decreeCalculator.previousHoliday(LocalDate.of(2031, 6, 1)));
+    assertEquals(LocalDate.of(2025, 3, 25),
+      decreeCalculator.getBusinessDaysCalculator().addBusinessDays(LocalDate.of(2025, 3, 21), 1));
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void shouldThrowWithoutCustomHolidaysAfterDate() {
+    new HolidaysCalculator(HolidayRuleSet.builder()
+      .add(HolidayRule.fixed("DECREE_2025", 3, 24).inYears(2025, 2025))
+      .build()).nextHoliday(LocalDate.of(2025, 3, 24));
+  }
+
+  @Test
+  public void shouldCountBusinessDaysOverDecades() {
+    final LocalDate from = LocalDate.of(1950, 6, 15);
+    final LocalDate to = LocalDate.of(2049, 2, 3);
+    long expected = 0;
+    for (LocalDate date = from.plusDays(1); !date.isAfter(to); date = date.plusDays(1)) {
+      expected += isBusinessDay(date) ? 1 : 0;
+    }
+    assertEquals(expected, businessDaysCalculator.businessDaysBetween(from, to));
+    assertEquals(-expected, businessDaysCalculator.businessDaysBetween(to, from));
+    assertEquals(0, businessDaysCalculator.businessDaysBetween(to, to));
+  }
+
+  @Test
+  public void shouldNotCountWeekendsOrHolidaysAsBusinessDays() {
+    assertFalse(businessDaysCalculator.isBusinessDay(LocalDate.of(2024, 12, 25)));
+    assertFalse(businessDaysCalculator.isBusinessDay(LocalDate.of(2024, 12, 28)));
+    assertTrue(businessDaysCalculator.isBusinessDay(LocalDate.of(2024, 12, 26)));
+  }
+
+  @Test
+  public void shouldCheckBusinessDayInstantsInColombia() {
+    long mondayMidnightUtc = LocalDate.of(2024, 7, 22).toEpochDay() * 86_400_000L;
+    assertFalse(businessDaysCalculator.isBusinessDay(mondayMidnightUtc));
+    assertTrue(businessDaysCalculator.isBusinessDay(mondayMidnightUtc + 5 * 3_600_000L));
+    assertTrue(businessDaysCalculator.isBusinessDay(LocalDate.of(2024, 7, 19).toEpochDay() * 86_400_000L));
+    assertFalse(businessDaysCalculator.isBusinessDay(LocalDate.of(2024, 7, 20).toEpochDay() * 86_400_000L
+      + 12 * 3_600_000L));
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.*;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class HolidaysCacheTest {
+
+  private static final Object VERSION = new Object();
+  private final HolidaysCalculatorResponse response = new HolidaysCalculatorResponse("dd/MM/yyyy");
+
+  @Test
+  public void shouldCountHitsAndMisses() {
+    HolidaysCache cache = new HolidaysCache(4);
+    assertNull(cache.get(2024, VERSION));
+    cache.put(2024, VERSION, response);
+    assertSame(response, cache.get(2024, VERSION));
+    assertSame(response, cache.get(2024, VERSION));
+    assertEquals(2, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedYear() throws Exception {
+    HolidaysCache cache = new HolidaysCache(2);
+    cache.put(2023, VERSION, response);
+    Thread.sleep(1L);
+    cache.put(2024, VERSION, response);
+    Thread.sleep(1L);
+    cache.get(2023, VERSION);
+    Thread.sleep(1L);
+    cache.put(2025, VERSION, response);
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.getEvictionCount());
+    assertNotNull(cache.get(2023, VERSION));
+    assertNull(cache.get(2024, VERSION));
+    assertNotNull(cache.get(2025, VERSION));
+  }
+
+  @Test
+  public void shouldNotCacheWhenDisabled() {
+    HolidaysCache cache = new HolidaysCache(0);
+    cache.put(2024, VERSION, response);
+    assertEquals(0, cache.size());
+    assertNull(cache.get(2024, VERSION));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldNotAcceptNegativeMaximumSize() {
+    new HolidaysCache(-1);
+  }
+
+  @Test
+  public void shouldMissEntriesOfAnotherVersion() {
+    HolidaysCache cache = new HolidaysCache(4);
+    cache.put(2024, VERSION, response);
+    assertNull(cache.get(2024, new Object()));
+    assertEquals(1, cache.getMissCount());
+    assertSame(response, cache.get(2024, VERSION));
+  }
+}
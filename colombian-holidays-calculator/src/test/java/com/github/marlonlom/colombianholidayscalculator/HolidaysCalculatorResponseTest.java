@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.Assert.*;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class HolidaysCalculatorResponseTest {
+
+  private static HolidaysCalculatorResponse read(InputStream inputStream) throws IOException, ClassNotFoundException {
+    try (ObjectInputStream input = new ObjectInputStream(inputStream)) {
+      return (HolidaysCalculatorResponse) input.readObject();
+    }
+  }
+
+  @Test
+  public void shouldReadBaselineSerializedResponse() throws IOException, ClassNotFoundException {
+    HolidaysCalculatorResponse response = read(getClass().getResourceAsStream("baseline-failure-response.ser"));
+    assertFalse(response.isSuccess());
+    assertEquals(0, response.size());
+    assertEquals("Invalid year", response.getFailure().getMessage());
+    assertEquals("Año Nuevo", response.getHolidays().get("01/01/2024"));
+  }
+
+  @Test
+  public void shouldRoundTripSerializedResponse() throws IOException, ClassNotFoundException {
+    HolidaysCalculatorResponse response = new HolidaysCalculator().getHolidays(2024);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      output.writeObject(response);
+    }
+    HolidaysCalculatorResponse copy = read(new ByteArrayInputStream(bytes.toByteArray()));
+    assertTrue(copy.isSuccess());
+    assertEquals(response.size(), copy.size());
+    assertEquals(response.getHolidays(), copy.getHolidays());
+  }
+}
@@ -5,6 +5,11 @@
 package com.github.marlonlom.colombianholidayscalculator;
 
 import com.github.marlonlom.colombianholidayscalculator.config.ConfigProperties;
+import com.github.marlonlom.colombianholidayscalculator.config.ConfigSnapshot;
+import com.github.marlonlom.colombianholidayscalculator.domain.DayType;
+import com.github.marlonlom.colombianholidayscalculator.domain.Holiday;
+import com.github.marlonlom.colombianholidayscalculator.domain.HolidayDates;
+import com.github.marlonlom.colombianholidayscalculator.domain.LongWeekend;
 import com.github.marlonlom.colombianholidayscalculator.util.LocalDateUtil;
 import org.junit.Before;
 import org.junit.FixMethodOrder;
@@ -13,8 +18,21 @@ import org.junit.runners.MethodSorters;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.when;
@@ -26,21 +44,119 @@ public class HolidaysCalculatorTest {
   private ConfigProperties configProperties;
   private HolidaysCalculator holidaysCalculator;
 
-  private void handleMockHolidayDateFormat() {
-    when(configProperties.getHolidayDateFormat()).thenReturn(new SimpleDateFormat("dd/MM/yyyy"));
+  private static final List<String> HOLIDAY_NAMES = List.of("Año Nuevo", "Día de los Reyes Magos",
+    "Día de San José", "Domingo de Ramos", "Jueves Santo", "Viernes Santo", "Domingo de Resurrección",
+    "Día del Trabajo", "Día de la Ascensión", "Corpus Christi", "Sagrado Corazón", "San Pedro y San Pablo",
+    "Día de la Independencia", "Batalla de Boyacá", "La asunción de la Virgen", "Día de la Raza",
+    "Todos los Santos", "Independencia de Cartagena", "Día de la Inmaculada Concepción", "Día de Navidad");
+
+  private void handleMockConfigProperties(String dateFormat, String holidayDetails) {
+    Properties properties = new Properties();
+    if (dateFormat != null) {
+      properties.setProperty("holiday.date_format", dateFormat);
+    }
+    if (holidayDetails != null) {
+      properties.setProperty("holiday.details", holidayDetails);
+    }
+    when(configProperties.getSnapshot()).thenReturn(ConfigSnapshot.of(properties));
   }
 
-  private void handleMockHolidayDetailsList() {
-    when(configProperties.getHolidayDetails()).thenReturn(List.of("Año Nuevo", "Día de los Reyes Magos",
-      "Día de San José", "Domingo de Ramos", "Jueves Santo", "Viernes Santo", "Domingo de Resurrección",
-      "Día del Trabajo", "Día de la Ascensión", "Corpus Christi", "Sagrado Corazón", "San Pedro y San Pablo",
-      "Día de la Independencia", "Batalla de Boyacá", "La asunción de la Virgen", "Día de la Raza",
-      "Todos los Santos", "Independencia de Cartagena", "Día de la Inmaculada Concepción", "Día de Navidad"));
+  private void handleMockConfigSnapshot() {
+    when(configProperties.getSnapshot()).thenReturn(ConfigSnapshot.of("dd/MM/yyyy",
+      DateTimeFormatter.ofPattern("dd/MM/yyyy"), HOLIDAY_NAMES));
   }
 
   @Before
   public void setUp() throws Exception {
     configProperties = Mockito.mock(ConfigProperties.class);
+    when(configProperties.getSnapshot()).thenReturn(ConfigSnapshot.of(new Properties()));
+  }
+
+  @Test
+  public void shouldCheckColombianHolidayDates() {
+    holidaysCalculator = new HolidaysCalculator(new LocalDateUtil(), configProperties);
+    assertTrue(holidaysCalculator.isHoliday(LocalDate.of(2024, 3, 29)));
+    assertTrue(holidaysCalculator.isHoliday(LocalDate.of(2024, 7, 20)));
+    assertFalse(holidaysCalculator.isHoliday(LocalDate.of(2024, 7, 21)));
+    assertFalse(holidaysCalculator.isHoliday(LocalDate.of(2025, 3, 29)));
+  }
+
+  @Test
+  public void shouldCheckColombianHolidayInstants() {
+    holidaysCalculator = new HolidaysCalculator(new LocalDateUtil(), configProperties);
+    long christmasMidnightUtc = LocalDate.of(2024, 12, 25).toEpochDay() * 86_400_000L;
+    assertFalse(holidaysCalculator.isHoliday(christmasMidnightUtc));
+    assertTrue(holidaysCalculator.isHoliday(christmasMidnightUtc + 5 * 3_600_000L));
+    assertTrue(holidaysCalculator.isHoliday(christmasMidnightUtc + 28 * 3_600_000L + 59 * 60_000L));
+    assertFalse(holidaysCalculator.isHoliday(christmasMidnightUtc + 29 * 3_600_000L));
+  }
+
+  @Test
+  public void shouldClassifyColombianDayTypes() {
+    holidaysCalculator = new HolidaysCalculator(new LocalDateUtil(), configProperties);
+    assertEquals(DayType.BRIDGE, holidaysCalculator.getDayType(LocalDate.of(2025, 3, 15)));
+    assertEquals(DayType.HOLIDAY, holidaysCalculator.getDayType(LocalDate.of(2025, 3, 17)));
+    assertEquals(DayType.WORKDAY, holidaysCalculator.getDayType(LocalDate.of(2025, 3, 18)));
+    assertEquals(DayType.WEEKEND, holidaysCalculator.getDayType(LocalDate.of(2025, 3, 22)));
+    Iterator<LongWeekend> longWeekends = holidaysCalculator.longWeekends(LocalDate.of(2025, 3, 1),
+      LocalDate.of(2025, 3, 31));
+    assertEquals(new LongWeekend((int) LocalDate.of(2025, 3, 15).toEpochDay(),
+      (int) LocalDate.of(2025, 3, 17).toEpochDay()), longWeekends.next());
+    assertFalse(longWeekends.hasNext());
+  }
+
+  @Test
+  public void shouldComputeColombianHolidaysBeforeYearOne() {
+    holidaysCalculator = new HolidaysCalculator(new LocalDateUtil(), configProperties);
+    for (int year = -5; year <= 0; year++) {
+      assertEquals(DayType.HOLIDAY, holidaysCalculator.getDayType(LocalDate.of(year, 1, 1)));
+      assertTrue(holidaysCalculator.isHoliday(LocalDate.of(year, 12, 25)));
+      assertEquals(LocalDate.of(year, 12, 25), holidaysCalculator.nextHoliday(LocalDate.of(year, 12, 10)));
+      assertEquals(LocalDate.of(year, 12, 25), holidaysCalculator.previousHoliday(LocalDate.of(year + 1, 1, 1)));
+      assertEquals(HolidayDates.count(), holidaysCalculator.streamHolidays(LocalDate.of(year, 1, 1),
+        LocalDate.of(year, 12, 31)).count());
+      assertEquals(LocalDate.ofEpochDay(holidaysCalculator.getLocalDateUtil().calculateEasterEpochDay(year)),
+        holidaysCalculator.getHolidayDate(HolidayDates.HD07, year));
+    }
+    assertNotNull(holidaysCalculator.getDayType(LocalDate.of(-5, 6, 1)));
+    assertEquals(LocalDate.of(-4, 1, 1), holidaysCalculator.nextHoliday(LocalDate.of(-5, 12, 25)));
+  }
+
+  @Test
+  public void shouldComputeSingleColombianHoliday() {
+    holidaysCalculator = new HolidaysCalculator(new LocalDateUtil(), configProperties);
+    assertEquals(LocalDate.of(2024, 3, 31), holidaysCalculator.getHolidayDate(HolidayDates.HD07, 2024));
+    assertEquals(LocalDate.of(2025, 4, 20),
+      holidaysCalculator.getHolidayDate(HolidayDates.findById("HD07").get(), 2025));
+  }
+
+  @Test
+  public void shouldNavigateColombianHolidaysAcrossYears() {
+    holidaysCalculator = new HolidaysCalculator(new LocalDateUtil(), configProperties);
+    assertEquals(LocalDate.of(2025, 1, 1), holidaysCalculator.nextHoliday(LocalDate.of(2024, 12, 25)));
+    assertEquals(LocalDate.of(2024, 12, 25), holidaysCalculator.previousHoliday(LocalDate.of(2025, 1, 1)));
+    assertEquals(LocalDate.of(2024, 3, 28), holidaysCalculator.nextHoliday(LocalDate.of(2024, 3, 24)));
+    assertEquals(LocalDate.of(2024, 3, 24), holidaysCalculator.previousHoliday(LocalDate.of(2024, 3, 25)));
+    for (LocalDate date = LocalDate.of(2023, 12, 1); date.isBefore(LocalDate.of(2025, 2, 1)); date = date.plusDays(1)) {
+      LocalDate next = date.plusDays(1);
+      while (!holidaysCalculator.isHoliday(next)) {
+        next = next.plusDays(1);
+      }
+      LocalDate previous = date.minusDays(1);
+      while (!holidaysCalculator.isHoliday(previous)) {
+        previous = previous.minusDays(1);
+      }
+      assertEquals(date.toString(), next, holidaysCalculator.nextHoliday(date));
+      assertEquals(date.toString(), previous, holidaysCalculator.previousHoliday(date));
+    }
+  }
+
+  @Test
+  public void shouldReturnColombianHolidaysWithEmbeddedConfig() {
+    HolidaysCalculatorResponse embedded = new HolidaysCalculator(ConfigSnapshot.embedded()).getHolidays(2024);
+    HolidaysCalculatorResponse shipped = new HolidaysCalculator().getHolidays(2024);
+    assertTrue(embedded.isSuccess());
+    assertEquals(shipped.getHolidays(), embedded.getHolidays());
   }
 
   @Test
@@ -54,8 +170,7 @@ public class HolidaysCalculatorTest {
 
   @Test
   public void shouldNotReturnColombianHolidaysByEmptyHolidayNames() {
-    handleMockHolidayDateFormat();
-    when(configProperties.getHolidayDetails()).thenReturn(List.of());
+    handleMockConfigProperties("dd/MM/yyyy", "");
     holidaysCalculator = new HolidaysCalculator(new LocalDateUtil(), configProperties);
     HolidaysCalculatorResponse response = holidaysCalculator.getHolidays(2024);
     assertNotNull(response);
@@ -65,7 +180,7 @@ public class HolidaysCalculatorTest {
 
   @Test
   public void shouldNotReturnColombianHolidaysByNoDateFormat() {
-    handleMockHolidayDetailsList();
+    handleMockConfigProperties(null, String.join(";", HOLIDAY_NAMES));
     holidaysCalculator = new HolidaysCalculator(new LocalDateUtil(), configProperties);
     HolidaysCalculatorResponse response = holidaysCalculator.getHolidays(2024);
     assertNotNull(response);
@@ -73,11 +188,132 @@ public class HolidaysCalculatorTest {
     assertNotNull(response.getFailure());
   }
 
+  @Test
+  public void shouldNotReturnColombianHolidaysByInvalidYearRange() {
+    handleMockConfigSnapshot();
+    holidaysCalculator = new HolidaysCalculator(new LocalDateUtil(), configProperties);
+    HolidaysCalculatorResponse response = holidaysCalculator.getHolidays(2025, 2024);
+    assertFalse(response.isSuccess());
+    assertNotNull(response.getFailure());
+  }
+
+  @Test
+  public void shouldNotReturnColombianHolidaysByInvalidDateRange() {
+    handleMockConfigSnapshot();
+    holidaysCalculator = new HolidaysCalculator(new LocalDateUtil(), configProperties);
+    HolidaysCalculatorResponse response = holidaysCalculator.holidaysBetween(LocalDate.of(2024, 2, 1),
+      LocalDate.of(2024, 1, 31));
+    assertFalse(response.isSuccess());
+    assertNotNull(response.getFailure());
+  }
+
+  @Test
+  public void shouldRebuildCachedColombianHolidaysAfterConfigReload() {
+    handleMockConfigSnapshot();
+    holidaysCalculator = new HolidaysCalculator(new LocalDateUtil(), configProperties);
+    HolidaysCalculatorResponse first = holidaysCalculator.getHolidays(2024);
+    handleMockConfigProperties("yyyy-MM-dd", String.join(";", HOLIDAY_NAMES));
+    HolidaysCalculatorResponse second = holidaysCalculator.getHolidays(2024);
+    assertNotSame(first, second);
+    assertTrue(first.getHolidays().containsKey("01/01/2024"));
+    assertTrue(second.getHolidays().containsKey("2024-01-01"));
+    assertSame(second, holidaysCalculator.getHolidays(2024));
+  }
+
+  @Test
+  public void shouldReturnCachedUnmodifiableColombianHolidays() {
+    handleMockConfigSnapshot();
+    holidaysCalculator = new HolidaysCalculator(new LocalDateUtil(), configProperties);
+    HolidaysCalculatorResponse first = holidaysCalculator.getHolidays(2024);
+    HolidaysCalculatorResponse second = holidaysCalculator.getHolidays(2024);
+    assertSame(first, second);
+    assertEquals(1, holidaysCalculator.getHolidaysCache().getHitCount());
+    assertEquals(1, holidaysCalculator.getHolidaysCache().getMissCount());
+    try {
+      first.getHolidays().clear();
+      fail("Cached holidays should be unmodifiable.");
+    } catch (UnsupportedOperationException expected) {
+      assertEquals(20, second.getHolidays().size());
+    }
+  }
+
+  @Test
+  public void shouldReturnColombianHolidaysForYearRange() {
+    handleMockConfigSnapshot();
+    holidaysCalculator = new HolidaysCalculator(new LocalDateUtil(), configProperties);
+    HolidaysCalculatorResponse sequential = holidaysCalculator.getHolidays(1900, 2299);
+    HolidaysCalculatorResponse parallel = holidaysCalculator.getHolidays(1900, 2299, ForkJoinPool.commonPool());
+    assertTrue(sequential.isSuccess());
+    assertEquals(400 * 20, sequential.size());
+    assertEquals(sequential.size(), parallel.size());
+    int pos = 0;
+    for (int year = 1900; year <= 2299; year++) {
+      HolidaysCalculatorResponse single = holidaysCalculator.getHolidays(year);
+      for (int i = 0; i < single.size(); i++, pos++) {
+        assertEquals(single.getEpochDay(i), sequential.getEpochDay(pos));
+        assertEquals(single.getName(i), sequential.getName(pos));
+        assertEquals(single.getEpochDay(i), parallel.getEpochDay(pos));
+        assertEquals(single.getName(i), parallel.getName(pos));
+      }
+    }
+  }
+
+  @Test
+  public void shouldReturnColombianHolidaysBetweenDates() {
+    handleMockConfigSnapshot();
+    holidaysCalculator = new HolidaysCalculator(new LocalDateUtil(), configProperties);
+    HolidaysCalculatorResponse response = holidaysCalculator.holidaysBetween(LocalDate.of(2024, 12, 8),
+      LocalDate.of(2025, 1, 6));
+    assertTrue(response.isSuccess());
+    assertEquals(4, response.size());
+    assertEquals(LocalDate.of(2024, 12, 8), response.getDate(0));
+    assertEquals("Día de Navidad", response.getName(1));
+    assertEquals(LocalDate.of(2025, 1, 1), response.getDate(2));
+    assertEquals(LocalDate.of(2025, 1, 6), response.getDate(3));
+    assertEquals(0, holidaysCalculator.holidaysBetween(LocalDate.of(2024, 12, 26), LocalDate.of(2024, 12, 31))
+      .size());
+  }
+
+  @Test
+  public void shouldStreamColombianHolidaysLazily() {
+    handleMockConfigSnapshot();
+    holidaysCalculator = new HolidaysCalculator(new LocalDateUtil(), configProperties);
+    HolidaysCalculatorResponse range = holidaysCalculator.getHolidays(2000, 2099);
+    assertEquals(range.size(), holidaysCalculator.streamHolidays(LocalDate.of(2000, 1, 1), LocalDate.of(2099, 12, 31))
+      .parallel().count());
+    Iterator<Holiday> iterator = holidaysCalculator.streamHolidays(LocalDate.of(2000, 1, 1)).iterator();
+    for (int i = 0; i < range.size(); i++) {
+      assertEquals(range.getDate(i), iterator.next().getDate());
+    }
+    assertEquals(LocalDate.of(2100, 1, 1), iterator.next().getDate());
+  }
+
+  @Test
+  public void shouldNameColombianHolidaysByLocale() {
+    handleMockConfigSnapshot();
+    holidaysCalculator = new HolidaysCalculator(new LocalDateUtil(), configProperties);
+    HolidaysCalculatorResponse english = holidaysCalculator.getHolidays(2024, Locale.ENGLISH);
+    HolidaysCalculatorResponse spanish = holidaysCalculator.getHolidays(2024, new Locale("es", "CO"));
+    assertTrue(english.isSuccess());
+    assertEquals(20, english.getHolidays().size());
+    assertEquals("New Year's Day", english.getHolidays().get("01/01/2024"));
+    assertEquals("Domingo de Resurrección", spanish.getHolidays().get("31/03/2024"));
+  }
+
+  @Test
+  public void shouldKeepSemicolonsInColombianHolidayNames() {
+    when(configProperties.getSnapshot()).thenReturn(ConfigSnapshot.of("d 'de' MMMM",
+      DateTimeFormatter.ofPattern("d 'de' MMMM", Locale.ENGLISH), List.of("Año Nuevo; festivo", "Reyes;Magos")));
+    holidaysCalculator = new HolidaysCalculator(new LocalDateUtil(), configProperties);
+    Map<String, String> holidays = holidaysCalculator.getHolidays(2024).getHolidays();
+    assertEquals(2, holidays.size());
+    assertEquals("Año Nuevo; festivo", holidays.get("1 de January"));
+    assertEquals("Reyes;Magos", holidays.get("8 de January"));
+  }
+
   @Test
   public void shouldShowColombianHolidaysFor2024() {
-    handleMockHolidayDateFormat();
-    handleMockHolidayDetailsList();
-    when(configProperties.isReady()).thenReturn(Boolean.TRUE);
+    handleMockConfigSnapshot();
     holidaysCalculator = new HolidaysCalculator(new LocalDateUtil(), configProperties);
     HolidaysCalculatorResponse response = holidaysCalculator.getHolidays(2024);
     System.out.println(String.format("holidays =%s", response.getHolidays().toString()));
@@ -86,4 +322,59 @@ public class HolidaysCalculatorTest {
     assertNull(response.getFailure());
     assertEquals(20, response.getHolidays().size());
   }
+
+  @Test
+  public void shouldShowTypedColombianHolidaysFor2024() {
+    handleMockConfigSnapshot();
+    holidaysCalculator = new HolidaysCalculator(new LocalDateUtil(), configProperties);
+    HolidaysCalculatorResponse response = holidaysCalculator.getHolidays(2024);
+    assertEquals(20, response.size());
+    assertEquals(LocalDate.of(2024, 1, 1), response.getDate(0));
+    assertEquals("Año Nuevo", response.getName(0));
+    assertEquals(LocalDate.of(2024, 3, 24).toEpochDay(), response.getEpochDay(3));
+    assertEquals("Domingo de Ramos", response.getName(3));
+    int pos = 0;
+    for (Map.Entry<String, String> entry : response.getHolidays().entrySet()) {
+      assertEquals(DateTimeFormatter.ofPattern("dd/MM/yyyy").format(response.getDate(pos)), entry.getKey());
+      assertEquals(response.getName(pos++), entry.getValue());
+    }
+  }
+
+  @Test
+  public void shouldReturnIdenticalColombianHolidaysFromConcurrentThreads() throws Exception {
+    handleMockConfigSnapshot();
+    holidaysCalculator = new HolidaysCalculator(new LocalDateUtil(), configProperties, new HolidaysCache(0));
+    final Map<Integer, Map<String, String>> expected = new HashMap<>();
+    for (int year = 2000; year < 2032; year++) {
+      expected.put(year, holidaysCalculator.getHolidays(year).getHolidays());
+    }
+    assertNotSame(holidaysCalculator.getHolidays(2000), holidaysCalculator.getHolidays(2000));
+    final int threads = 64;
+    final CountDownLatch startSignal = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final List<Future<Integer>> mismatches = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        final int offset = i;
+        mismatches.add(executor.submit(() -> {
+          startSignal.await();
+          int count = 0;
+          for (int j = 0; j < expected.size(); j++) {
+            final int year = 2000 + (offset + j) % expected.size();
+            HolidaysCalculatorResponse response = holidaysCalculator.getHolidays(year);
+            if (!response.isSuccess() || !expected.get(year).equals(response.getHolidays())) {
+              count++;
+            }
+          }
+          return count;
+        }));
+      }
+      startSignal.countDown();
+      for (Future<Integer> mismatch : mismatches) {
+        assertEquals(0, mismatch.get(30, TimeUnit.SECONDS).intValue());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class HolidaysPrecomputeServiceTest {
+
+  private static final class MovableClock extends Clock {
+
+    private volatile Instant instant;
+
+    private MovableClock(String instant) {
+      this.instant = Instant.parse(instant);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+
+  @Test
+  public void shouldExtendWindowAheadOfNewYear() throws Exception {
+    HolidaysCalculator calculator = new HolidaysCalculator();
+    MovableClock clock = new MovableClock("2025-06-01T12:00:00Z");
+    try (HolidaysPrecomputeService service = new HolidaysPrecomputeService(calculator, 1, 2, 31, clock)) {
+      service.start().get(30, TimeUnit.SECONDS);
+      assertEquals(2024, service.getFirstYear());
+      assertEquals(2027, service.getLastYear());
+      assertEquals(4, calculator.getHolidaysCache().size());
+      clock.instant = Instant.parse("2025-12-15T12:00:00Z");
+      service.refresh().get(30, TimeUnit.SECONDS);
+      assertEquals(2025, service.getFirstYear());
+      assertEquals(2028, service.getLastYear());
+      assertEquals(5, calculator.getHolidaysCache().size());
+      long misses = calculator.getHolidaysCache().getMissCount();
+      calculator.getHolidays(2028);
+      assertEquals(misses, calculator.getHolidaysCache().getMissCount());
+    }
+  }
+
+  @Test
+  public void shouldCountFailedScheduledRefreshes() {
+    HolidaysPrecomputeService service = new HolidaysPrecomputeService(new HolidaysCalculator(), 0, 0, 0,
+      Clock.systemUTC());
+    service.close();
+    service.scheduledRefresh();
+    assertEquals(1L, service.getFailedRefreshCount());
+  }
+
+  @Test
+  public void shouldGetHolidaysAsynchronously() throws Exception {
+    HolidaysCalculator calculator = new HolidaysCalculator();
+    try (HolidaysPrecomputeService service = new HolidaysPrecomputeService(calculator)) {
+      HolidaysCalculatorResponse response = service.getHolidaysAsync(2025).get(30, TimeUnit.SECONDS);
+      assertSame(calculator.getHolidays(2025), response);
+      assertEquals(40, service.getHolidaysAsync(2025, 2026).get(30, TimeUnit.SECONDS).size());
+    }
+  }
+
+  @Test
+  public void shouldRecomputeEvictedWindowYears() throws Exception {
+    HolidaysCalculator calculator = new HolidaysCalculator(4);
+    MovableClock clock = new MovableClock("2025-06-01T12:00:00Z");
+    try (HolidaysPrecomputeService service = new HolidaysPrecomputeService(calculator, 1, 2, 31, clock)) {
+      service.start().get(30, TimeUnit.SECONDS);
+      for (int year = 1990; year < 1994; year++) {
+        calculator.getHolidays(year);
+      }
+      service.refresh().get(30, TimeUnit.SECONDS);
+      long misses = calculator.getHolidaysCache().getMissCount();
+      for (int year = 2024; year <= 2027; year++) {
+        calculator.getHolidays(year);
+      }
+      assertEquals(misses, calculator.getHolidaysCache().getMissCount());
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void shouldRejectSecondStart() throws Exception {
+    try (HolidaysPrecomputeService service = new HolidaysPrecomputeService(new HolidaysCalculator(), 0, 0, 0,
+      Clock.systemUTC())) {
+      service.start().get(30, TimeUnit.SECONDS);
+      service.start();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldRejectWindowLargerThanCache() {
+    new HolidaysPrecomputeService(new HolidaysCalculator(8), 5, 5, 0, Clock.systemUTC());
+  }
+}
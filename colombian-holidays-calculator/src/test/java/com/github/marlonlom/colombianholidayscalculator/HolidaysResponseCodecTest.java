@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.*;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class HolidaysResponseCodecTest {
+
+  private final HolidaysCalculator holidaysCalculator = new HolidaysCalculator(0);
+
+  private static void assertSameHolidays(HolidaysCalculatorResponse expected, HolidaysCalculatorResponse actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.getEpochDay(i), actual.getEpochDay(i));
+      assertEquals(expected.getName(i), actual.getName(i));
+    }
+    assertEquals(expected.getHolidays(), actual.getHolidays());
+  }
+
+  private static int serializedSize(HolidaysCalculatorResponse response) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      output.writeObject(response);
+    }
+    return bytes.size();
+  }
+
+  @Test
+  public void shouldBeSmallerThanJavaSerialization() throws IOException {
+    HolidaysCalculatorResponse response = holidaysCalculator.getHolidays(2024);
+    int encodedSize = HolidaysResponseCodec.encodedSize(response);
+    assertEquals(encodedSize, HolidaysResponseCodec.encode(response).remaining());
+    assertTrue(encodedSize < serializedSize(response));
+    response.getHolidays();
+    assertTrue(encodedSize * 2 < serializedSize(response));
+  }
+
+  @Test
+  public void shouldRejectMalformedInput() {
+    ByteBuffer buffer = HolidaysResponseCodec.encode(holidaysCalculator.getHolidays(2024));
+    ByteBuffer truncated = ByteBuffer.wrap(buffer.array(), 0, buffer.remaining() - 1);
+    try {
+      HolidaysResponseCodec.decode(truncated);
+      fail();
+    } catch (IllegalArgumentException expected) {
+      assertNotNull(expected.getMessage());
+    }
+    try {
+      HolidaysResponseCodec.decode(ByteBuffer.wrap(new byte[]{9, 0}));
+      fail();
+    } catch (IllegalArgumentException expected) {
+      assertNotNull(expected.getMessage());
+    }
+  }
+
+  @Test
+  public void shouldRejectTooSmallBuffer() {
+    HolidaysCalculatorResponse response = holidaysCalculator.getHolidays(2024);
+    ByteBuffer buffer = ByteBuffer.allocate(HolidaysResponseCodec.encodedSize(response) - 1);
+    try {
+      HolidaysResponseCodec.encode(response, buffer);
+      fail();
+    } catch (BufferOverflowException expected) {
+      assertEquals(0, buffer.position());
+    }
+  }
+
+  @Test
+  public void shouldRoundTripFailures() {
+    HolidaysCalculatorResponse response = new HolidaysCalculatorResponse(new IllegalArgumentException("Boom."));
+    HolidaysCalculatorResponse decoded = HolidaysResponseCodec.decode(HolidaysResponseCodec.encode(response));
+    assertFalse(decoded.isSuccess());
+    assertEquals("Boom.", decoded.getFailure().getMessage());
+  }
+
+  @Test
+  public void shouldRoundTripHolidaysThroughDirectBuffer() {
+    HolidaysCalculatorResponse response = holidaysCalculator.getHolidays(1900, 2099);
+    ByteBuffer buffer = ByteBuffer.allocateDirect(HolidaysResponseCodec.encodedSize(response) + 1);
+    buffer.put((byte) 7);
+    HolidaysResponseCodec.encode(response, buffer);
+    buffer.flip();
+    assertEquals(7, buffer.get());
+    HolidaysCalculatorResponse decoded = HolidaysResponseCodec.decode(buffer);
+    assertFalse(buffer.hasRemaining());
+    assertTrue(decoded.isSuccess());
+    assertSameHolidays(response, decoded);
+  }
+
+  @Test
+  public void shouldRoundTripSingleYear() {
+    HolidaysCalculatorResponse response = holidaysCalculator.getHolidays(2024);
+    HolidaysCalculatorResponse decoded = HolidaysResponseCodec.decode(HolidaysResponseCodec.encode(response));
+    assertTrue(decoded.isSuccess());
+    assertSameHolidays(response, decoded);
+  }
+}
@@ -35,6 +35,8 @@ public class ConfigPropertiesTest {
     configProperties = new ConfigProperties(properties);
     assertTrue(configProperties.isReady());
     assertNotNull(configProperties.getHolidayDateFormat());
+    assertNotNull(configProperties.getHolidayDateFormatter());
+    assertEquals("dd/MM/yyyy", configProperties.getHolidayDatePattern());
     assertNotNull(configProperties.getHolidayDetails());
     assertFalse(configProperties.getHolidayDetails().isEmpty());
   }
@@ -70,6 +72,7 @@ public class ConfigPropertiesTest {
     when(properties.getProperty("holiday.date_format")).thenReturn("wtf");
     configProperties = new ConfigProperties(properties);
     assertFalse(configProperties.isReady());
+    assertNotNull(configProperties.getFailure());
     assertNull(configProperties.getHolidayDateFormat());
   }
 
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.config;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.Assert.*;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ConfigSnapshotTest {
+
+  private Properties defaults;
+
+  private static Properties properties(String dateFormat, String holidayDetails) {
+    Properties properties = new Properties();
+    properties.setProperty("holiday.date_format", dateFormat);
+    properties.setProperty("holiday.details", holidayDetails);
+    return properties;
+  }
+
+  @Before
+  public void setUp() throws IOException {
+    defaults = new Properties();
+    try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(ConfigSnapshot.RESOURCE_NAME)) {
+      defaults.load(inputStream);
+    }
+  }
+
+  @After
+  public void tearDown() {
+    ConfigSnapshot.reload(defaults);
+  }
+
+  @Test
+  public void shouldBackDefaultConfigPropertiesWithCurrentSnapshot() {
+    ConfigProperties configProperties = new ConfigProperties();
+    assertSame(ConfigSnapshot.current(), configProperties.getSnapshot());
+    ConfigSnapshot reloaded = ConfigSnapshot.reload(properties("yyyy-MM-dd", "Año Nuevo"));
+    assertSame(reloaded, configProperties.getSnapshot());
+    assertEquals("yyyy-MM-dd", configProperties.getHolidayDatePattern());
+  }
+
+  @Test
+  public void shouldEmbedShippedConfiguration() {
+    ConfigSnapshot shipped = ConfigSnapshot.of(defaults);
+    ConfigSnapshot embedded = ConfigSnapshot.embedded();
+    assertTrue(embedded.isReady());
+    assertSame(embedded, ConfigSnapshot.embedded());
+    assertEquals(shipped.getHolidayDatePattern(), embedded.getHolidayDatePattern());
+    assertEquals(shipped.getHolidayDetails(), embedded.getHolidayDetails());
+    assertNotNull(embedded.getHolidayDateFormatter());
+    assertSame(embedded.getHolidayDateFormatter(), embedded.getHolidayDateFormatter());
+    assertSame(embedded, new ConfigProperties(embedded).getSnapshot());
+  }
+
+  @Test
+  public void shouldCopyHolidayNames() {
+    List<String> names = new ArrayList<>(List.of("Año Nuevo; festivo", "Reyes"));
+    ConfigSnapshot snapshot = ConfigSnapshot.of("dd/MM/yyyy", DateTimeFormatter.ofPattern("dd/MM/yyyy"), names);
+    names.clear();
+    assertTrue(snapshot.isReady());
+    assertEquals(List.of("Año Nuevo; festivo", "Reyes"), snapshot.getHolidayDetails());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shouldExposeUnmodifiableHolidayNames() {
+    ConfigSnapshot.of(properties("dd/MM/yyyy", "Año Nuevo;Navidad")).getHolidayDetails().add("Otro");
+  }
+
+  @Test
+  public void shouldKeepCurrentSnapshotOnInvalidReload() {
+    ConfigSnapshot current = ConfigSnapshot.current();
+    try {
+      ConfigSnapshot.reload(properties("wtf", "Año Nuevo"));
+      fail();
+    } catch (IllegalArgumentException expected) {
+      assertNotNull(expected.getCause());
+    }
+    try {
+      ConfigSnapshot.reload(Path.of("missing-config.properties"));
+      fail();
+    } catch (IllegalArgumentException expected) {
+      assertNotNull(expected.getCause());
+    }
+    assertSame(current, ConfigSnapshot.current());
+  }
+
+  @Test
+  public void shouldLoadDefaultSnapshotOnce() {
+    assertTrue(ConfigSnapshot.current().isReady());
+    assertSame(ConfigSnapshot.current(), ConfigSnapshot.current());
+    assertEquals(20, ConfigSnapshot.current().getHolidayDetails().size());
+  }
+
+  @Test
+  public void shouldReloadSnapshotFromFile() throws IOException {
+    Path file = Files.createTempFile("config", ".properties");
+    try {
+      try (OutputStream outputStream = Files.newOutputStream(file)) {
+        properties("yyyy/MM/dd", "Año Nuevo;Reyes").store(outputStream, null);
+      }
+      ConfigSnapshot previous = ConfigSnapshot.current();
+      ConfigSnapshot reloaded = ConfigSnapshot.reload(file);
+      assertSame(reloaded, ConfigSnapshot.current());
+      assertEquals("yyyy/MM/dd", reloaded.getHolidayDatePattern());
+      assertEquals(List.of("Año Nuevo", "Reyes"), reloaded.getHolidayDetails());
+      assertEquals("dd/MM/yyyy", previous.getHolidayDatePattern());
+    } finally {
+      Files.delete(file);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.config;
+
+import com.github.marlonlom.colombianholidayscalculator.domain.HolidayDates;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class HolidayNamesTest {
+
+  @Test
+  public void shouldFallBackToDefaultNames() {
+    HolidayNames names = HolidayNames.of(Locale.GERMAN);
+    assertEquals(Locale.ROOT, names.getLocale());
+    assertEquals("Año Nuevo", names.getName(HolidayDates.HD01));
+  }
+
+  @Test
+  public void shouldKeyCachedNamesByBundleLocale() {
+    HolidayNames.of(Locale.ENGLISH);
+    HolidayNames.of(Locale.ROOT);
+    int cached = HolidayNames.cachedBundleCount();
+    for (int i = 0; i < 100; i++) {
+      assertSame(HolidayNames.of(Locale.ENGLISH), HolidayNames.of(new Locale("en", "US", "x" + i)));
+      assertSame(HolidayNames.of(Locale.ROOT), HolidayNames.of(new Locale("es", "CO", "x" + i)));
+    }
+    assertEquals(cached, HolidayNames.cachedBundleCount());
+  }
+
+  @Test
+  public void shouldMatchConfiguredSpanishNames() {
+    assertEquals(ConfigSnapshot.current().getHolidayDetails(), HolidayNames.of(new Locale("es")).asList());
+  }
+
+  @Test
+  public void shouldResolveEnglishNamesById() {
+    HolidayNames names = HolidayNames.of(Locale.ENGLISH);
+    assertEquals(Locale.ENGLISH, names.getLocale());
+    assertEquals(HolidayDates.count(), names.asList().size());
+    assertEquals("Easter Sunday", names.getName(HolidayDates.HD07));
+    assertEquals("Christmas Day", names.getName(HolidayDates.HD20));
+  }
+
+  @Test
+  public void shouldShareInternedNames() {
+    assertSame(HolidayNames.of(Locale.ENGLISH), HolidayNames.of(Locale.ENGLISH));
+    assertSame(HolidayNames.of(Locale.ENGLISH).getName(HolidayDates.HD10),
+      HolidayNames.of(Locale.ROOT).getName(HolidayDates.HD10));
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.diagnostics;
+
+import com.github.marlonlom.colombianholidayscalculator.HolidaysCalculator;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.*;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class HolidaysCalculatorMetricsTest {
+
+  @Test
+  public void shouldCountCallsAndFailures() {
+    HolidaysCalculatorMetrics metrics = new HolidaysCalculatorMetrics();
+    HolidaysCalculator holidaysCalculator = new HolidaysCalculator();
+    holidaysCalculator.setListener(metrics);
+    holidaysCalculator.getHolidays(2024);
+    holidaysCalculator.getHolidays(2024);
+    holidaysCalculator.getHolidays(null);
+    assertEquals(3, metrics.getCallCount());
+    assertEquals(1, metrics.getFailureCount());
+    assertTrue(metrics.getTotalNanos() > 0);
+  }
+
+  @Test
+  public void shouldRecordLatencyHistogram() {
+    HolidaysCalculatorMetrics metrics = new HolidaysCalculatorMetrics();
+    HolidaysCalculator holidaysCalculator = new HolidaysCalculator();
+    metrics.onHolidaysCalculated(2024, holidaysCalculator.getHolidays(2024), 1000L);
+    metrics.onHolidaysCalculated(2024, holidaysCalculator.getHolidays(2024), 3000L);
+    assertEquals(1, metrics.getLatencyBucketCount(10));
+    assertEquals(1, metrics.getLatencyBucketCount(12));
+    assertEquals(1024L, metrics.getLatencyPercentileNanos(0.5));
+    assertEquals(4096L, metrics.getLatencyPercentileNanos(0.99));
+    assertEquals(0L, new HolidaysCalculatorMetrics().getLatencyPercentileNanos(0.99));
+  }
+}
@@ -4,6 +4,9 @@
  */
 package com.github.marlonlom.colombianholidayscalculator.domain;
 
+import com.github.marlonlom.colombianholidayscalculator.util.LocalDateUtil;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
 import org.junit.Assert;
 import org.junit.FixMethodOrder;
 import org.junit.Test;
@@ -20,10 +23,48 @@ public class HolidayDatesTest {
     Assert.assertFalse(optional.isPresent());
   }
 
+  @Test
+  public void shouldFindHolidayDatesById() {
+    for (HolidayDates holidayDate : HolidayDates.values()) {
+      Assert.assertSame(holidayDate, HolidayDates.findById(holidayDate.getId()).get());
+      Assert.assertSame(holidayDate, HolidayDates.indexOf(holidayDate.ordinal()).get());
+      Assert.assertSame(holidayDate, HolidayDates.ofOrdinal(holidayDate.ordinal()));
+    }
+    Assert.assertEquals(HolidayDates.values().length, HolidayDates.count());
+    Assert.assertFalse(HolidayDates.findById("HD21").isPresent());
+    Assert.assertFalse(HolidayDates.findById(null).isPresent());
+    Assert.assertFalse(HolidayDates.indexOf(-1).isPresent());
+  }
+
+  @Test
+  public void shouldComputeSingleHolidayDate() {
+    Assert.assertEquals(java.time.LocalDate.of(2024, 3, 31).toEpochDay(), HolidayDates.HD07.getEpochDay(2024));
+    for (int year = 1900; year <= 2300; year += 7) {
+      HolidayYearContext context = new HolidayYearContext(new LocalDateUtil(), year);
+      for (HolidayDates holidayDate : HolidayDates.values()) {
+        Assert.assertEquals(holidayDate.resolveEpochDay(context), holidayDate.getEpochDay(year));
+      }
+    }
+  }
+
   @Test
   public void shouldReturnValidHolidayDate() {
     Optional<HolidayDates> optional = HolidayDates.indexOf(0);
     Assert.assertTrue(optional.isPresent());
   }
 
+  @Test
+  public void shouldResolveHolidayDatesWithinYearContext() {
+    HolidayYearContext context = new HolidayYearContext(new LocalDateUtil(), 2024);
+    Assert.assertEquals(new LocalDate(2024, 3, 31), HolidayDates.HD07.resolve(context));
+    Assert.assertEquals(new LocalDate(2024, 3, 24), HolidayDates.HD04.resolve(context));
+    Assert.assertEquals(new LocalDate(2024, 5, 13), HolidayDates.HD09.resolve(context));
+    Assert.assertEquals(new LocalDate(2024, 1, 8), HolidayDates.HD02.resolve(context));
+    Assert.assertEquals(new LocalDate(2024, 7, 20), HolidayDates.HD13.resolve(context));
+    Assert.assertEquals(java.time.LocalDate.of(2024, 3, 31).toEpochDay(), HolidayDates.HD07.resolveEpochDay(context));
+    Assert.assertEquals(java.time.LocalDate.of(2024, 1, 8).toEpochDay(), HolidayDates.HD02.resolveEpochDay(context));
+    Assert.assertEquals(new LocalDate(2024, 3, 31).toDateTimeAtStartOfDay(DateTimeZone.forOffsetHours(-5)).toDate(),
+      HolidayDates.HD07.getFindable().finDate(new LocalDateUtil(), 2024));
+  }
+
 }
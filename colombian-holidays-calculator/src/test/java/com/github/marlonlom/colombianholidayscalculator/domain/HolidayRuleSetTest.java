@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.domain;
+
+import com.github.marlonlom.colombianholidayscalculator.util.EpochDays;
+import com.github.marlonlom.colombianholidayscalculator.util.LocalDateUtil;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class HolidayRuleSetTest {
+
+  @Test
+  public void shouldComposeCustomAndDecreeRules() {
+    HolidayRuleSet rules = HolidayRuleSet.builder()
+      .addAll(HolidayRuleSet.builtIn())
+      .add(HolidayRule.fixed("COMPANY_DAY", 9, 15))
+      .add(HolidayRule.movedToMonday("DECREE", 3, 20).inYears(2025, 2025))
+      .build();
+    assertEquals(22, rules.size());
+    int[] resolved = new int[rules.size()];
+    assertEquals(22, rules.resolve(2025, resolved));
+    assertEquals(EpochDays.of(2025, 9, 15), resolved[20]);
+    assertEquals(EpochDays.of(2025, 3, 17), resolved[21]);
+    assertEquals(21, rules.resolve(2026, resolved));
+    assertEquals(HolidayRuleSet.NOT_APPLICABLE, resolved[21]);
+    assertTrue(rules.isHoliday(EpochDays.of(2026, 9, 15)));
+    assertTrue(rules.isHoliday(EpochDays.of(2025, 3, 17)));
+    assertFalse(rules.isHoliday(EpochDays.of(2026, 3, 17)));
+    assertFalse(HolidayRuleSet.builtIn().isHoliday(EpochDays.of(2025, 9, 15)));
+  }
+
+  @Test
+  public void shouldMatchHolidayDatesRules() {
+    HolidayRuleSet rules = HolidayRuleSet.builtIn();
+    assertEquals(HolidayDates.count(), rules.size());
+    LocalDateUtil localDateUtil = new LocalDateUtil();
+    int[] resolved = new int[rules.size()];
+    for (int year = 1583; year <= 2299; year++) {
+      assertEquals(rules.size(), rules.resolve(year, resolved));
+      HolidayYearContext context = new HolidayYearContext(localDateUtil, year);
+      for (HolidayDates holidayDate : HolidayDates.values()) {
+        assertEquals(holidayDate.getId(), rules.getRule(holidayDate.ordinal()).getId());
+        assertEquals(year + " " + holidayDate, holidayDate.resolveEpochDay(context), resolved[holidayDate.ordinal()]);
+        assertTrue(rules.isHoliday(resolved[holidayDate.ordinal()]));
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldRejectDuplicateRuleIds() {
+    HolidayRuleSet.builder().addAll(HolidayRuleSet.builtIn()).add(HolidayRule.fixed("HD01", 1, 2)).build();
+  }
+
+  @Test
+  public void shouldRejectRulesLeavingTheYear() {
+    int rejected = 0;
+    try {
+      HolidayRule.fixed("LEAP", 2, 29);
+    } catch (IllegalArgumentException exception) {
+      rejected++;
+    }
+    try {
+      HolidayRule.movedToMonday("NEW_YEAR_EVE", 12, 31);
+    } catch (IllegalArgumentException exception) {
+      rejected++;
+    }
+    try {
+      HolidayRule.easterOffset("LATE", 120);
+    } catch (IllegalArgumentException exception) {
+      rejected++;
+    }
+    assertEquals(3, rejected);
+  }
+}
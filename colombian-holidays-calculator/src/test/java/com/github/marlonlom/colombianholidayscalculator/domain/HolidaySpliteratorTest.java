@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.domain;
+
+import com.github.marlonlom.colombianholidayscalculator.util.LocalDateUtil;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.Assert.*;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class HolidaySpliteratorTest {
+
+  private final HolidayYearIndex index = new HolidayYearIndex(new LocalDateUtil());
+
+  private HolidaySpliterator spliterator(LocalDate from, LocalDate to) {
+    return new HolidaySpliterator(index, (int) from.toEpochDay(), (int) to.toEpochDay());
+  }
+
+  @Test
+  public void shouldAgreeWithHolidayYearsWhenSplit() {
+    List<Holiday> expected = new ArrayList<>();
+    for (int year = 1800; year <= 2300; year++) {
+      HolidayYear holidayYear = index.findOrComputeYear(year);
+      for (int i = 0; i < holidayYear.getHolidayCount(); i++) {
+        expected.add(new Holiday(holidayYear.getEpochDay(i), HolidayDates.values()[holidayYear.getHolidayOrdinal(i)]));
+      }
+    }
+    HolidaySpliterator spliterator = spliterator(LocalDate.of(1800, 1, 1), LocalDate.of(2300, 12, 31));
+    assertEquals(expected.size(), spliterator.getExactSizeIfKnown());
+    assertEquals(expected, StreamSupport.stream(spliterator, true).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void shouldKeepExactSizesWhenSplit() {
+    HolidaySpliterator spliterator = spliterator(LocalDate.of(2024, 3, 25), LocalDate.of(2030, 6, 30));
+    long size = spliterator.estimateSize();
+    Spliterator<Holiday> prefix = spliterator.trySplit();
+    assertNotNull(prefix);
+    assertEquals(size, prefix.estimateSize() + spliterator.estimateSize());
+    long[] counted = new long[1];
+    prefix.forEachRemaining(holiday -> counted[0]++);
+    spliterator.forEachRemaining(holiday -> counted[0]++);
+    assertEquals(size, counted[0]);
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED | Spliterator.ORDERED));
+  }
+
+  @Test
+  public void shouldNotStoreTraversedYears() {
+    spliterator(LocalDate.of(1900, 1, 1), LocalDate.of(2100, 12, 31)).forEachRemaining(holiday -> {
+    });
+    assertNull(index.findYear(2000));
+  }
+
+  @Test
+  public void shouldSkipCustomRulesOutOfTheirYears() {
+    HolidayRuleSet rules = HolidayRuleSet.builder()
+      .addAll(HolidayRuleSet.builtIn())
+      .add(HolidayRule.fixed("DECREE_DAY", 6, 6).inYears(2025, 2025))
+      .build();
+    HolidaySpliterator spliterator = new HolidaySpliterator(new HolidayYearIndex(new LocalDateUtil(), rules),
+      (int) LocalDate.of(2024, 1, 1).toEpochDay(), (int) LocalDate.of(2026, 12, 31).toEpochDay());
+    assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+    List<Holiday> holidays = StreamSupport.stream(spliterator, true).collect(Collectors.toList());
+    assertEquals(spliterator(LocalDate.of(2024, 1, 1), LocalDate.of(2026, 12, 31)).estimateSize() + 1,
+      holidays.size());
+    HolidayRule decreeDay = rules.getRule(rules.size() - 1);
+    assertTrue(holidays.contains(new Holiday((int) LocalDate.of(2025, 6, 6).toEpochDay(), decreeDay)));
+  }
+
+  @Test
+  public void shouldStartWithinYear() {
+    HolidaySpliterator spliterator = spliterator(LocalDate.of(2024, 12, 9), LocalDate.of(2025, 1, 5));
+    assertEquals(2, spliterator.estimateSize());
+    assertTrue(spliterator.tryAdvance(holiday -> assertEquals(LocalDate.of(2024, 12, 25), holiday.getDate())));
+    assertTrue(spliterator.tryAdvance(holiday -> assertEquals(HolidayDates.HD01, holiday.getHolidayDate())));
+    assertFalse(spliterator.tryAdvance(holiday -> fail()));
+    assertNull(spliterator.trySplit());
+  }
+}
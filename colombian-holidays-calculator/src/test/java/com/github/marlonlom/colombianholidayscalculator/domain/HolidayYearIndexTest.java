@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.domain;
+
+import com.github.marlonlom.colombianholidayscalculator.util.LocalDateUtil;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class HolidayYearIndexTest {
+
+  private final LocalDateUtil localDateUtil = new LocalDateUtil();
+
+  @Test
+  public void shouldAgreeWithHolidayDatesRules() {
+    HolidayYearIndex index = new HolidayYearIndex(localDateUtil);
+    for (int year = 2030; year >= 1990; year--) {
+      Set<LocalDate> expected = new HashSet<>();
+      for (HolidayDates holidayDate : HolidayDates.values()) {
+        expected.add(holidayDate.getFindable().finDate(localDateUtil, year).toInstant()
+          .atZone(localDateUtil.getZone()).toLocalDate());
+      }
+      for (LocalDate date = LocalDate.of(year, 1, 1); date.getYear() == year; date = date.plusDays(1)) {
+        assertEquals(date.toString(), expected.contains(date), index.isHoliday(year, date.getDayOfYear()));
+      }
+    }
+  }
+
+  @Test
+  public void shouldSkipYearsWithoutHolidays() {
+    HolidayRuleSet rules = HolidayRuleSet.builder()
+      .add(HolidayRule.fixed("DECREE_2025", 3, 24).inYears(2025, 2025))
+      .add(HolidayRule.fixed("DECREE_2030", 5, 2).inYears(2030, 2030))
+      .build();
+    HolidayYearIndex index = new HolidayYearIndex(localDateUtil, rules);
+    int decree2025 = (int) LocalDate.of(2025, 3, 24).toEpochDay();
+    int decree2030 = (int) LocalDate.of(2030, 5, 2).toEpochDay();
+    assertEquals(decree2030, index.nextHoliday(decree2025));
+    assertEquals(decree2025, index.previousHoliday(decree2030));
+    assertEquals(decree2025, index.nextHoliday((int) LocalDate.of(1990, 1, 1).toEpochDay()));
+    assertEquals(decree2030, index.previousHoliday((int) LocalDate.of(2100, 1, 1).toEpochDay()));
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void shouldThrowPastLastYearOfRules() {
+    HolidayRuleSet rules = HolidayRuleSet.builder()
+      .add(HolidayRule.fixed("DECREE_2025", 3, 24).inYears(2025, 2025))
+      .build();
+    new HolidayYearIndex(localDateUtil, rules).nextHoliday((int) LocalDate.of(2025, 3, 24).toEpochDay());
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void shouldThrowBeforeFirstYearOfRules() {
+    HolidayRuleSet rules = HolidayRuleSet.builder()
+      .add(HolidayRule.fixed("DECREE_2025", 3, 24).inYears(2025, 2025))
+      .build();
+    new HolidayYearIndex(localDateUtil, rules).previousHoliday((int) LocalDate.of(2025, 3, 24).toEpochDay());
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void shouldThrowWithEmptyRuleSet() {
+    new HolidayYearIndex(localDateUtil, HolidayRuleSet.builder().build()).nextHoliday(0);
+  }
+
+  @Test
+  public void shouldReturnSameYearOnceComputed() {
+    HolidayYearIndex index = new HolidayYearIndex(localDateUtil);
+    HolidayYear holidayYear = index.getYear(2024);
+    index.getYear(1900);
+    index.getYear(2100);
+    assertSame(holidayYear, index.getYear(2024));
+    assertEquals(2024, holidayYear.getYear());
+    assertTrue(holidayYear.isHoliday(LocalDate.of(2024, 12, 25).getDayOfYear()));
+    assertFalse(holidayYear.isHoliday(LocalDate.of(2024, 12, 24).getDayOfYear()));
+  }
+
+  @Test
+  public void shouldComputeYearOutOfRangeWithoutStoringIt() {
+    HolidayYearIndex index = new HolidayYearIndex(localDateUtil);
+    HolidayYear holidayYear = index.getYear(HolidayYearIndex.MAX_YEAR + 1);
+    assertEquals(HolidayYearIndex.MAX_YEAR + 1, holidayYear.getYear());
+    assertEquals(HolidayDates.values().length, holidayYear.getHolidayCount());
+    assertNotSame(holidayYear, index.getYear(HolidayYearIndex.MAX_YEAR + 1));
+  }
+
+  @Test
+  public void shouldSortHolidaysChronologically() {
+    HolidayYear holidayYear = new HolidayYearIndex(localDateUtil).getYear(2024);
+    for (int i = 1; i < holidayYear.getHolidayCount(); i++) {
+      assertTrue(holidayYear.getEpochDay(i - 1) <= holidayYear.getEpochDay(i));
+    }
+    assertEquals(HolidayDates.HD01.ordinal(), holidayYear.getHolidayOrdinal(0));
+    assertEquals(LocalDate.of(2024, 12, 25).toEpochDay(),
+      holidayYear.getEpochDay(holidayYear.getHolidayCount() - 1));
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.domain;
+
+import com.github.marlonlom.colombianholidayscalculator.util.EpochDays;
+import com.github.marlonlom.colombianholidayscalculator.util.LocalDateUtil;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
+
+import static org.junit.Assert.*;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class LongWeekendIteratorTest {
+
+  private final HolidayYearIndex index = new HolidayYearIndex(new LocalDateUtil());
+
+  private List<LongWeekend> longWeekends(LocalDate from, LocalDate to) {
+    List<LongWeekend> longWeekends = new ArrayList<>();
+    new LongWeekendIterator(index, (int) from.toEpochDay(), (int) to.toEpochDay()).forEachRemaining(longWeekends::add);
+    return longWeekends;
+  }
+
+  @Test
+  public void shouldFindOneLongWeekendPerMondayHoliday() {
+    for (int year = 1950; year <= 2150; year++) {
+      HolidayYear holidayYear = index.findOrComputeYear(year);
+      TreeSet<Integer> mondays = new TreeSet<>();
+      for (int i = 0; i < holidayYear.getHolidayCount(); i++) {
+        if (holidayYear.getRule(i).isObservedOnMonday()) {
+          assertEquals(1, EpochDays.dayOfWeek(holidayYear.getEpochDay(i)));
+          mondays.add(holidayYear.getEpochDay(i));
+        }
+      }
+      List<LongWeekend> longWeekends = longWeekends(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+      assertEquals(String.valueOf(year), mondays.size(), longWeekends.size());
+      for (LongWeekend longWeekend : longWeekends) {
+        Integer monday = mondays.ceiling(longWeekend.getFirstEpochDay());
+        assertNotNull(monday);
+        assertTrue(monday <= longWeekend.getLastEpochDay());
+        assertTrue(longWeekend.getLength() >= 3);
+      }
+    }
+  }
+
+  @Test
+  public void shouldLabelDaysAroundMondayHolidays() {
+    HolidayYear holidayYear = index.findOrComputeYear(2025);
+    assertEquals(DayType.HOLIDAY, holidayYear.getDayType(LocalDate.of(2025, 1, 1).getDayOfYear()));
+    assertEquals(DayType.WORKDAY, holidayYear.getDayType(LocalDate.of(2025, 1, 3).getDayOfYear()));
+    assertEquals(DayType.BRIDGE, holidayYear.getDayType(LocalDate.of(2025, 1, 4).getDayOfYear()));
+    assertEquals(DayType.BRIDGE, holidayYear.getDayType(LocalDate.of(2025, 1, 5).getDayOfYear()));
+    assertEquals(DayType.HOLIDAY, holidayYear.getDayType(LocalDate.of(2025, 1, 6).getDayOfYear()));
+    assertEquals(DayType.WORKDAY, holidayYear.getDayType(LocalDate.of(2025, 1, 7).getDayOfYear()));
+    assertEquals(DayType.WEEKEND, holidayYear.getDayType(LocalDate.of(2025, 1, 11).getDayOfYear()));
+    assertEquals(DayType.WEEKEND, holidayYear.getDayType(LocalDate.of(2025, 4, 19).getDayOfYear()));
+    for (int dayOfYear = 1; dayOfYear <= holidayYear.getLength(); dayOfYear++) {
+      LocalDate date = LocalDate.ofYearDay(2025, dayOfYear);
+      DayType dayType = holidayYear.getDayType(dayOfYear);
+      assertEquals(date.toString(), holidayYear.isBusinessDay(dayOfYear), !dayType.isDayOff());
+      assertEquals(date.toString(), holidayYear.isHoliday(dayOfYear), dayType == DayType.HOLIDAY);
+      if (dayType == DayType.BRIDGE) {
+        assertTrue(date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY);
+      }
+    }
+  }
+
+  @Test
+  public void shouldReturnLongWeekendsCrossingRangeWhole() {
+    List<LongWeekend> longWeekends = longWeekends(LocalDate.of(2025, 1, 5), LocalDate.of(2025, 1, 5));
+    assertEquals(1, longWeekends.size());
+    assertEquals(LocalDate.of(2025, 1, 4), longWeekends.get(0).getStart());
+    assertEquals(LocalDate.of(2025, 1, 6), longWeekends.get(0).getEnd());
+    assertTrue(longWeekends(LocalDate.of(2025, 1, 7), LocalDate.of(2025, 1, 31)).isEmpty());
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void shouldThrowPastLastLongWeekend() {
+    new LongWeekendIterator(index, (int) LocalDate.of(2025, 1, 7).toEpochDay(),
+      (int) LocalDate.of(2025, 1, 8).toEpochDay()).next();
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.domain;
+
+import com.github.marlonlom.colombianholidayscalculator.util.LocalDateUtil;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class StaticHolidayTableTest {
+
+  @Test
+  public void shouldAgreeWithHolidayRules() {
+    assertTrue(StaticHolidayTable.getFirstYear() <= StaticHolidayTable.getLastYear());
+    LocalDateUtil localDateUtil = new LocalDateUtil();
+    for (int year = StaticHolidayTable.getFirstYear(); year <= StaticHolidayTable.getLastYear(); year++) {
+      assertTrue(StaticHolidayTable.covers(year));
+      HolidayYearContext context = new HolidayYearContext(localDateUtil, year);
+      for (HolidayDates holidayDate : HolidayDates.values()) {
+        assertEquals(year + " " + holidayDate, holidayDate.resolveEpochDay(context),
+          StaticHolidayTable.getEpochDay(year, holidayDate));
+      }
+    }
+  }
+
+  @Test
+  public void shouldFallBackToRulesOutsideWindow() {
+    LocalDateUtil localDateUtil = new LocalDateUtil();
+    HolidayRuleSet computedRules = HolidayRuleSet.builder().addAll(HolidayRuleSet.builtIn()).build();
+    int[] edges = {StaticHolidayTable.getFirstYear() - 1, StaticHolidayTable.getFirstYear(),
+      StaticHolidayTable.getLastYear(), StaticHolidayTable.getLastYear() + 1};
+    for (int year : edges) {
+      assertEquals(year >= StaticHolidayTable.getFirstYear() && year <= StaticHolidayTable.getLastYear(),
+        StaticHolidayTable.covers(year));
+      HolidayYear holidayYear = HolidayYear.compute(localDateUtil, year);
+      HolidayYear computedYear = HolidayYear.compute(localDateUtil, computedRules, year);
+      assertEquals(String.valueOf(year), computedYear.getHolidayCount(), holidayYear.getHolidayCount());
+      for (int i = 0; i < holidayYear.getHolidayCount(); i++) {
+        assertEquals(year + " " + i, computedYear.getEpochDay(i), holidayYear.getEpochDay(i));
+        assertEquals(year + " " + i, computedYear.getHolidayOrdinal(i), holidayYear.getHolidayOrdinal(i));
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldRejectYearOutsideWindow() {
+    StaticHolidayTable.getEpochDay(StaticHolidayTable.getLastYear() + 1, HolidayDates.HD07);
+  }
+
+  @Test
+  public void shouldWriteTwoBytesPerHoliday() throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    StaticHolidayTable.write(outputStream, 2024, 2025);
+    assertEquals(9 + 2 * HolidayDates.values().length * 2, outputStream.size());
+  }
+}
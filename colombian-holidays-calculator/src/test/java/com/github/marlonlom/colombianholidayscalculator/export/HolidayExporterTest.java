@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.export;
+
+import com.github.marlonlom.colombianholidayscalculator.HolidaysCalculator;
+import com.github.marlonlom.colombianholidayscalculator.domain.Holiday;
+import com.github.marlonlom.colombianholidayscalculator.domain.HolidayRule;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class HolidayExporterTest {
+
+  private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-01-02T03:04:05Z"), ZoneOffset.UTC);
+
+  private final HolidaysCalculator holidaysCalculator = new HolidaysCalculator(0);
+
+  private Iterator<Holiday> holidays(int fromYear, int toYear) {
+    return holidaysCalculator.streamHolidays(LocalDate.of(fromYear, 1, 1), LocalDate.of(toYear, 12, 31)).iterator();
+  }
+
+  @Test
+  public void shouldEscapeJsonLines() throws IOException {
+    HolidayExporter exporter = new HolidayExporter(HolidayExportFormat.JSON_LINES,
+      List.of("Año \"Nuevo\"\\\n\u0001"), CLOCK);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    assertEquals(1, exporter.export(holidays(2024, 2024), bytes));
+    assertEquals("{\"date\":\"2024-01-01\",\"id\":\"HD01\",\"name\":\"Año \\\"Nuevo\\\"\\\\\\n\\u0001\"}\n",
+      new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void shouldEscapeCustomRuleIds() throws IOException {
+    String id = "COMPANY \"DAY\", 2025;\\\n" + String.join("", Collections.nCopies(8, "día-de-la-empresa"));
+    Holiday holiday = new Holiday((int) LocalDate.of(2025, 9, 15).toEpochDay(), HolidayRule.fixed(id, 9, 15));
+    StringWriter csv = new StringWriter();
+    new HolidayExporter(HolidayExportFormat.CSV, List.of(), CLOCK).export(List.of(holiday).iterator(), csv);
+    String quotedId = "\"" + id.replace("\"", "\"\"") + "\"";
+    assertEquals("date,id,name\r\n2025-09-15," + quotedId + "," + quotedId + "\r\n", csv.toString());
+    StringWriter json = new StringWriter();
+    new HolidayExporter(HolidayExportFormat.JSON_LINES, List.of(), CLOCK).export(List.of(holiday).iterator(), json);
+    String escapedId = id.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    assertEquals("{\"date\":\"2025-09-15\",\"id\":\"" + escapedId + "\",\"name\":\"" + escapedId + "\"}\n",
+      json.toString());
+    StringWriter ical = new StringWriter();
+    new HolidayExporter(HolidayExportFormat.ICALENDAR, List.of(), CLOCK).export(List.of(holiday).iterator(), ical);
+    for (String line : ical.toString().split("\r\n")) {
+      assertTrue(line, line.getBytes(StandardCharsets.UTF_8).length <= 75);
+    }
+    String textId = id.replace("\\", "\\\\").replace(",", "\\,").replace(";", "\\;").replace("\n", "\\n");
+    assertTrue(ical.toString().replace("\r\n ", "")
+      .contains("\r\nUID:20250915-" + textId + "@cherph.marlonlom.github.com\r\nDTSTAMP:"));
+  }
+
+  @Test
+  public void shouldExportCsv() throws IOException {
+    StringWriter writer = new StringWriter();
+    assertEquals(20, HolidayExporter.of(HolidayExportFormat.CSV, Locale.ENGLISH).export(holidays(2024, 2024), writer));
+    String[] lines = writer.toString().split("\r\n");
+    assertEquals(21, lines.length);
+    assertEquals("date,id,name", lines[0]);
+    assertEquals("2024-01-01,HD01,New Year's Day", lines[1]);
+    assertEquals("2024-12-25,HD20,Christmas Day", lines[20]);
+  }
+
+  @Test
+  public void shouldExportICalendar() throws IOException {
+    String longName = String.join(" ", Collections.nCopies(12, "Día, festivo;"));
+    HolidayExporter exporter = new HolidayExporter(HolidayExportFormat.ICALENDAR, List.of(longName), CLOCK);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    assertEquals(2, exporter.export(holidays(2024, 2025), Channels.newChannel(bytes)));
+    String calendar = new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    assertTrue(calendar.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+    assertTrue(calendar.endsWith("END:VEVENT\r\nEND:VCALENDAR\r\n"));
+    assertTrue(calendar.contains("UID:20250101-HD01@cherph.marlonlom.github.com\r\nDTSTAMP:20250102T030405Z\r\n"
+      + "DTSTART;VALUE=DATE:20250101\r\nDTEND;VALUE=DATE:20250102\r\n"));
+    for (String line : calendar.split("\r\n")) {
+      assertTrue(line, line.getBytes(StandardCharsets.UTF_8).length <= 75);
+    }
+    String unfolded = calendar.replace("\r\n ", "");
+    assertTrue(unfolded.contains("SUMMARY:" + longName.replace(",", "\\,").replace(";", "\\;") + "\r\n"));
+  }
+
+  @Test
+  public void shouldQuoteCsvNames() throws IOException {
+    StringWriter writer = new StringWriter();
+    new HolidayExporter(HolidayExportFormat.CSV, List.of("Año \"Nuevo\", festivo"), CLOCK)
+      .export(holidays(2024, 2024), writer);
+    assertEquals("date,id,name\r\n2024-01-01,HD01,\"Año \"\"Nuevo\"\", festivo\"\r\n", writer.toString());
+  }
+
+  @Test
+  public void shouldStreamLongExportsThroughChannels() throws IOException {
+    StringWriter writer = new StringWriter();
+    HolidayExporter exporter = HolidayExporter.of(HolidayExportFormat.JSON_LINES, Locale.ROOT);
+    assertEquals(2000, exporter.export(holidays(2000, 2099), writer));
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    assertEquals(2000, exporter.export(holidays(2000, 2099), bytes));
+    assertEquals(writer.toString(), new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+    long[] written = new long[1];
+    WritableByteChannel counter = new WritableByteChannel() {
+      @Override
+      public int write(ByteBuffer src) {
+        int remaining = src.remaining();
+        src.position(src.limit());
+        written[0] += remaining;
+        return remaining;
+      }
+
+      @Override
+      public boolean isOpen() {
+        return true;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    assertEquals(20000, exporter.export(holidays(1600, 2599), counter));
+    assertTrue(written[0] > 1_000_000L);
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.util;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.Assert.*;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class EpochDayFormatTest {
+
+  @Test
+  public void shouldAgreeWithDateTimeFormatter() {
+    for (String pattern : new String[]{"dd/MM/yyyy", "yyyy-MM-dd", "MM.dd.yyyy", "yyyyMMdd", "dd - MM - yyyy"}) {
+      EpochDayFormat format = EpochDayFormat.compile(pattern);
+      DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+      assertNotNull(pattern, format);
+      for (int epochDay = EpochDays.of(1, 1, 1); epochDay <= EpochDays.of(9999, 12, 31); epochDay += 13) {
+        assertEquals(formatter.format(LocalDate.ofEpochDay(epochDay)), format.format(epochDay));
+      }
+    }
+  }
+
+  @Test
+  public void shouldNotCompileUnsupportedPatterns() {
+    assertNull(EpochDayFormat.compile("d/M/yyyy"));
+    assertNull(EpochDayFormat.compile("dd/MMM/yyyy"));
+    assertNull(EpochDayFormat.compile("dd/MM/yy"));
+    assertNull(EpochDayFormat.compile("'day' dd"));
+    assertNull(EpochDayFormat.compile(""));
+    assertFalse(EpochDayFormat.canFormat(EpochDays.of(10000, 1, 1)));
+    assertTrue(EpochDayFormat.canFormat(EpochDays.of(2024, 1, 1)));
+  }
+}
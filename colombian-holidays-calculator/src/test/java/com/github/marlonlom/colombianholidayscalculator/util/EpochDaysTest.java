@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 marlonlom
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.github.marlonlom.colombianholidayscalculator.util;
+
+import org.joda.time.DateTimeConstants;
+import org.joda.time.Days;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.time.LocalDate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class EpochDaysTest {
+
+  @Test
+  public void shouldAgreeWithGaussEasterInItsRange() {
+    for (int year = 1583; year <= 2299; year++) {
+      assertEquals(String.valueOf(year), EpochDays.gaussEasterSunday(year), EpochDays.easterSunday(year));
+    }
+  }
+
+  @Test
+  public void shouldAgreeWithJavaTimeCalendar() {
+    final int first = (int) LocalDate.of(1, 1, 1).toEpochDay();
+    final int last = (int) LocalDate.of(9999, 12, 31).toEpochDay();
+    for (int epochDay = first; epochDay <= last; epochDay++) {
+      final LocalDate date = LocalDate.ofEpochDay(epochDay);
+      assertEquals(epochDay, EpochDays.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+      assertEquals(date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth(),
+        EpochDays.toPackedDate(epochDay));
+      assertEquals(date.getDayOfWeek().getValue(), EpochDays.dayOfWeek(epochDay));
+    }
+    assertEquals(366, EpochDays.lengthOfYear(2000));
+    assertEquals(365, EpochDays.lengthOfYear(2100));
+  }
+
+  @Test
+  public void shouldAgreeWithJodaNearestDayOfWeek() {
+    org.joda.time.LocalDate t0 = new org.joda.time.LocalDate(1900, 1, 1);
+    while (t0.getYear() <= 2100) {
+      for (int dayOfWeek = DateTimeConstants.MONDAY; dayOfWeek <= DateTimeConstants.SUNDAY; dayOfWeek++) {
+        org.joda.time.LocalDate t1 = t0.withDayOfWeek(dayOfWeek);
+        org.joda.time.LocalDate t2 = t1.isBefore(t0) ? t1.plusWeeks(1) : t1.minusWeeks(1);
+        org.joda.time.LocalDate expected = Math.abs(Days.daysBetween(t1, t0).getDays())
+          < Math.abs(Days.daysBetween(t2, t0).getDays()) ? t1 : t2;
+        int epochDay = EpochDays.of(t0.getYear(), t0.getMonthOfYear(), t0.getDayOfMonth());
+        assertEquals(t0.toString(), EpochDays.of(expected.getYear(), expected.getMonthOfYear(),
+          expected.getDayOfMonth()), EpochDays.nearestDayOfWeek(epochDay, dayOfWeek));
+      }
+      t0 = t0.plusDays(1);
+    }
+  }
+
+  @Test
+  public void shouldAgreeWithJavaTimeCalendarBeforeYearOne() {
+    final int first = (int) LocalDate.of(-2000, 1, 1).toEpochDay();
+    final int last = (int) LocalDate.of(0, 12, 31).toEpochDay();
+    for (int epochDay = first; epochDay <= last; epochDay++) {
+      final LocalDate date = LocalDate.ofEpochDay(epochDay);
+      assertEquals(epochDay, EpochDays.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+      assertEquals(date.getYear(), EpochDays.year(epochDay));
+      assertEquals(date.getMonthValue(), EpochDays.monthOfYear(epochDay));
+      assertEquals(date.getDayOfMonth(), EpochDays.dayOfMonth(epochDay));
+      assertEquals(date.getDayOfYear(), EpochDays.dayOfYear(epochDay));
+    }
+    assertEquals(-1, EpochDays.year(EpochDays.of(-1, 6, 15)));
+    assertEquals(6, EpochDays.monthOfYear(EpochDays.of(-1, 6, 15)));
+    assertEquals(15, EpochDays.dayOfMonth(EpochDays.of(-1, 6, 15)));
+  }
+
+  @Test
+  public void shouldComputeEasterInEveryGregorianYear() {
+    assertEquals(LocalDate.of(1583, 4, 10).toEpochDay(), EpochDays.easterSunday(1583));
+    assertEquals(LocalDate.of(2285, 3, 22).toEpochDay(), EpochDays.easterSunday(2285));
+    assertEquals(LocalDate.of(2038, 4, 25).toEpochDay(), EpochDays.easterSunday(2038));
+    for (int year = -20_000; year <= 20_000; year++) {
+      final int easter = EpochDays.easterSunday(year);
+      assertEquals(7, EpochDays.dayOfWeek(easter));
+      assertTrue(String.valueOf(year), easter >= EpochDays.of(year, 3, 22) && easter <= EpochDays.of(year, 4, 25));
+      assertEquals(easter - EpochDays.of(year, 3, 22),
+        EpochDays.easterSunday(year + 5_700_000) - EpochDays.of(year + 5_700_000, 3, 22));
+    }
+  }
+
+  @Test
+  public void shouldFindNearestDayOfWeek() {
+    assertEquals(EpochDays.of(2024, 1, 8), EpochDays.nearestDayOfWeek(EpochDays.of(2024, 1, 6), 1));
+    assertEquals(EpochDays.of(2024, 3, 18), EpochDays.nearestDayOfWeek(EpochDays.of(2024, 3, 19), 1));
+    assertEquals(EpochDays.of(2025, 3, 17), EpochDays.nearestDayOfWeek(EpochDays.of(2025, 3, 19), 1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldRejectYearsOutOfGaussEasterTables() {
+    EpochDays.gaussEasterSunday(2300);
+  }
+}
@@ -4,10 +4,15 @@
  */
 package com.github.marlonlom.colombianholidayscalculator.util;
 
+import org.joda.time.DateTimeConstants;
 import org.joda.time.LocalDate;
 import org.junit.Test;
 
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Calendar;
+import java.util.TimeZone;
 
 import static org.junit.Assert.assertEquals;
 
@@ -31,4 +36,38 @@ public class LocalDateUtilTest {
     assertEquals(4, easterDay.getMonthOfYear());
   }
 
+  @Test
+  public void shouldReturnEasterDayOnSunday() {
+    LocalDate easterDay = localDateUtil.calculateEasterDay(2022);
+    assertEquals(new LocalDate(2022, 4, 17), easterDay);
+    for (int year = 1583; year <= 2299; year++) {
+      assertEquals(String.valueOf(year), DateTimeConstants.SUNDAY,
+        localDateUtil.calculateEasterDay(year).getDayOfWeek());
+    }
+  }
+
+  @Test
+  public void shouldPrepareDatesAtMidnightInColombia() {
+    TimeZone defaultZone = TimeZone.getDefault();
+    try {
+      TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+      assertEquals(Instant.parse("2024-03-31T05:00:00Z"), localDateUtil.prepareDate(2024, 3, 31).toInstant());
+    } finally {
+      TimeZone.setDefault(defaultZone);
+    }
+    assertEquals(ZoneOffset.ofHours(-5), localDateUtil.getZone());
+  }
+
+  @Test
+  public void shouldUseConfiguredZone() {
+    LocalDateUtil bogota = new LocalDateUtil(ZoneId.of("America/Bogota"));
+    LocalDateUtil utc = new LocalDateUtil(ZoneOffset.UTC);
+    long epochDay = java.time.LocalDate.of(2024, 3, 31).toEpochDay();
+    assertEquals(Instant.parse("2024-03-31T05:00:00Z").toEpochMilli(), bogota.toEpochMilli((int) epochDay));
+    assertEquals(Instant.parse("2024-03-31T00:00:00Z"), utc.prepareDate((int) epochDay).toInstant());
+    long instant = Instant.parse("2024-04-01T03:00:00Z").toEpochMilli();
+    assertEquals(epochDay, bogota.toEpochDay(instant));
+    assertEquals(epochDay, localDateUtil.toEpochDay(instant));
+    assertEquals(epochDay + 1, utc.toEpochDay(instant));
+  }
 }